@@ -46,6 +46,7 @@
 import net.minecraft.item.Item;
 import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.tileentity.TileEntity;
@@ -68,6 +69,7 @@
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
 import net.minecraft.world.storage.MapStorage;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -230,6 +232,10 @@ public static Iterator<Chunk> getChunkIterator(WorldServer world) {
         return world.getPlayerChunkMap().getChunkIterator();
     }
 
+    public static void loadChunkEntities(AnvilChunkLoader chunkLoader, World world, NBTTagCompound compound, Chunk chunk) {
+        // Vanilla reads the entities with the chunk, overwritten in SpongeForge
+    }
+
     public static void registerPortalAgentType(@Nullable IMixinITeleporter teleporter) {
         // Overwritten in SpongeForge
     }
@@ -95,10 +95,11 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState blockState;
     private final BlockState extendedState;
     private final UUID worldUniqueId;
-    private final Vector3i pos;
+    // Only created once requested, captures during block changes only need the BlockPos
+    @Nullable private Vector3i pos;
     private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
-    private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
-    private ImmutableSet<ImmutableValue<?>> valueSet;
+    @Nullable private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
+    @Nullable private ImmutableSet<ImmutableValue<?>> valueSet;
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
@@ -117,20 +118,18 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
         this.worldUniqueId = checkNotNull(builder.worldUuid, "The world UUID was null");
         this.creatorUniqueId = builder.creatorUuid;
         this.notifierUniqueId = builder.notifierUuid;
-        this.pos = checkNotNull(builder.coords);
-        this.blockPos = VecHelper.toBlockPos(this.pos);
+        if (builder.blockPos != null) {
+            this.blockPos = builder.blockPos;
+        } else {
+            this.pos = checkNotNull(builder.coords);
+            this.blockPos = VecHelper.toBlockPos(this.pos);
+        }
 
-        // This avoids cross contamination of block state based values versus tile entity values.
+        // The tile values are only mapped once requested, most snapshots are only used to restore or
+        // compare block changes. Keeping them apart avoids cross contamination of block state based
+        // values versus tile entity values.
         // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
         this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
     }
@@ -170,6 +169,9 @@ public UUID getWorldUniqueId() {
 
     @Override
     public Vector3i getPosition() {
+        if (this.pos == null) {
+            this.pos = VecHelper.toVector3i(this.blockPos);
+        }
         return this.pos;
     }
 
@@ -186,7 +188,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
         // this way we guarantee an exit.
         try (PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext()) {
             context.buildAndSwitch();
-            BlockPos pos = VecHelper.toBlockPos(this.pos);
+            BlockPos pos = this.blockPos;
             if (!world.isValid(pos)) { // Invalid position. Inline this check
                 return false;
             }
@@ -232,7 +234,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
                         }
                         printer.add()
                             .add("Desired World: " + this.worldUniqueId)
-                            .add("Position: " + this.pos)
+                            .add("Position: " + this.getPosition())
                             .add("Desired BlockState: " + this.blockState);
                         printer.add();
                         printer.log(SpongeImpl.getLogger(), Level.ERROR);
@@ -294,9 +296,9 @@ public DataContainer toContainer() {
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(Queries.WORLD_ID, this.worldUniqueId.toString())
             .createView(DataQueries.SNAPSHOT_WORLD_POSITION)
-                .set(Queries.POSITION_X, this.pos.getX())
-                .set(Queries.POSITION_Y, this.pos.getY())
-                .set(Queries.POSITION_Z, this.pos.getZ())
+                .set(Queries.POSITION_X, this.blockPos.getX())
+                .set(Queries.POSITION_Y, this.blockPos.getY())
+                .set(Queries.POSITION_Z, this.blockPos.getZ())
             .getContainer()
             .set(DataQueries.BLOCK_STATE, this.blockState);
 
@@ -421,7 +423,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (this.getTileMap().containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
@@ -477,7 +479,7 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (this.getTileMap().containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
@@ -488,7 +490,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return this.getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -522,7 +524,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
         builder.blockState(this.blockState)
             .extendedState(this.extendedState)
-            .position(this.pos)
+            .position(this.getPosition())
             .worldId(this.worldUniqueId);
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
@@ -547,7 +549,7 @@ public BlockPos getBlockPos() {
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("worldUniqueId", this.worldUniqueId)
-                .add("position", this.pos)
+                .add("position", this.getPosition())
                 .add("blockState", this.blockState)
                 .add("extendedState", this.extendedState)
                 .toString();
@@ -599,7 +601,7 @@ public boolean equals(Object o) {
         return this.changeFlag == that.changeFlag &&
                Objects.equal(this.extendedState, that.extendedState) &&
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
-               Objects.equal(this.pos, that.pos) &&
+               Objects.equal(this.blockPos, that.blockPos) &&
                Objects.equal(this.extraData, that.extraData) &&
                Objects.equal(this.compound, that.compound);
     }
@@ -609,7 +611,7 @@ public int hashCode() {
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
-                this.pos,
+                this.blockPos,
                 this.extraData,
                 this.changeFlag,
                 this.compound);
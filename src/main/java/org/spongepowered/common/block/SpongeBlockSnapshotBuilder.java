@@ -33,6 +33,7 @@
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockTypes;
@@ -72,6 +73,7 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     @Nullable UUID creatorUuid;
     @Nullable UUID notifierUuid;
     Vector3i coords;
+    @Nullable BlockPos blockPos;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
@@ -106,6 +108,7 @@ public SpongeBlockSnapshotBuilder extendedState(BlockState extendedState) {
     @Override
     public SpongeBlockSnapshotBuilder position(Vector3i position) {
         this.coords = checkNotNull(position);
+        this.blockPos = null;
         if (this.compound != null) {
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.setInteger(NbtDataUtil.TILE_ENTITY_POSITION_Y, position.getY());
@@ -114,11 +117,25 @@ public SpongeBlockSnapshotBuilder position(Vector3i position) {
         return this;
     }
 
+    /**
+     * Sets the position from an immutable {@link BlockPos}, used by block
+     * captures to avoid converting the position back and forth.
+     *
+     * @param pos The immutable block position
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder position(BlockPos pos) {
+        this.blockPos = checkNotNull(pos);
+        this.coords = null;
+        return this;
+    }
+
     @Override
     public SpongeBlockSnapshotBuilder from(Location<World> location) {
         this.blockState = location.getBlock();
         this.worldUuid = location.getExtent().getUniqueId();
         this.coords = location.getBlockPosition();
+        this.blockPos = null;
         if (this.blockState.getType() instanceof ITileEntityProvider) {
             if (location.hasTileEntity()) {
                 this.compound = new NBTTagCompound();
@@ -149,6 +166,19 @@ public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
         return this;
     }
 
+    /**
+     * Sets the tile entity data without copying it, the built snapshot
+     * takes ownership of the compound and only copies it when it is
+     * requested. The compound must not be modified afterwards.
+     *
+     * @param compound The freshly written tile entity compound
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileNbt(NBTTagCompound compound) {
+        this.compound = checkNotNull(compound);
+        return this;
+    }
+
     @Override
     public SpongeBlockSnapshotBuilder add(DataManipulator<?, ?> manipulator) {
         return add(checkNotNull(manipulator, "manipulator").asImmutable());
@@ -197,6 +227,7 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
             this.notifierUuid = holder.getNotifier().get();
         }
         this.coords = holder.getPosition();
+        this.blockPos = null;
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
             final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).compound;
@@ -214,6 +245,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.creatorUuid = null;
         this.notifierUuid = null;
         this.coords = null;
+        this.blockPos = null;
         this.manipulators = null;
         this.compound = null;
         return this;
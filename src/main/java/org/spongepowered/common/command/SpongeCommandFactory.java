@@ -49,6 +49,7 @@
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -95,16 +96,23 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.entity.player.MovementEventCounters;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.scheduler.PluginTaskMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.AsyncChunkSerializer;
+import org.spongepowered.common.world.storage.ChunkWriteQueue;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -121,6 +129,7 @@
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -206,6 +215,7 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeTasksCommand(), "tasks");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTpsCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -228,6 +238,7 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                         INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                        INDENT, title("tasks"), LONG_INDENT, "Provides asynchronous task statistics of plugins\n",
                         SpongeImplHooks.getAdditionalCommandDescriptions()))
                 .arguments(firstParsing(nonFlagChildren,
                         flags().flag("-global", "g")
@@ -385,14 +396,44 @@ protected Text getChunksInfo(WorldServer worldserver) {
                         if (((IMixinWorld) worldserver).isFake() || worldserver.getWorldInfo() == null) {
                             return Text.of(NEWLINE_TEXT, "Fake world");
                         }
-                        return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
+                        final Text.Builder builder = Text.builder().append(Text.of(NEWLINE_TEXT,
+                                key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
-                        );
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                key("Queued Lighting Updates: "), value(((IMixinWorldServer) worldserver).getQueuedLightingUpdateCount()), NEWLINE_TEXT,
+                                key("Pending Chunk Loads: "), value(((IMixinChunkProviderServer) worldserver.getChunkProvider()).getPendingChunkLoadCount()),
+                                NEWLINE_TEXT
+                        ));
+                        final IChunkLoader chunkLoader = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getChunkLoader();
+                        if (chunkLoader instanceof IMixinAnvilChunkLoader) {
+                            final ChunkWriteQueue writeQueue = ((IMixinAnvilChunkLoader) chunkLoader).getWriteQueue();
+                            builder.append(Text.of(
+                                    key("Pending Chunk Writes: "), value(writeQueue.size() + " (~" + writeQueue.getPendingBytes() / 1024 + " KiB)"),
+                                    NEWLINE_TEXT,
+                                    key("Written Chunks: "), value(writeQueue.getWrittenCount() + " (" + writeQueue.getWrittenBytes() / 1024 + " KiB)"),
+                                    NEWLINE_TEXT,
+                                    key("Coalesced Chunk Saves: "), value(writeQueue.getCoalescedCount()), NEWLINE_TEXT
+                            ));
+                        }
+                        final AsyncChunkSerializer serializer = chunkLoader instanceof IMixinAnvilChunkLoader
+                                ? ((IMixinAnvilChunkLoader) chunkLoader).getChunkSerializer() : null;
+                        if (serializer != null) {
+                            final long serialized = Math.max(1, serializer.getSerializedCount());
+                            builder.append(Text.of(
+                                    key("Serialized Chunks: "), value(serializer.getSerializedCount()), NEWLINE_TEXT,
+                                    key("Serialized On Server Thread: "), value(serializer.getSynchronousCount()), NEWLINE_TEXT,
+                                    key("Average Section Copy: "), value(TimeUnit.NANOSECONDS.toMicros(serializer.getSnapshotTime() / serialized) + "\u00b5s"),
+                                    NEWLINE_TEXT,
+                                    key("Average Serialization: "), value(TimeUnit.NANOSECONDS.toMicros(serializer.getSerializeTime() / serialized) + "\u00b5s"),
+                                    NEWLINE_TEXT,
+                                    key("Pending Serializations: "), value(serializer.getPendingCount()), NEWLINE_TEXT
+                            ));
+                        }
+                        return builder.build();
                     }
                 })
                 .build();
@@ -821,11 +862,57 @@ private static CommandSpec createSpongeTpsCommand() {
                             THREE_DECIMAL_DIGITS_FORMATTER.format(Math.min(1000.0 / (serverMeanTickTime), 20)),
                             TextColors.RESET, ", Mean: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.
                                     format(serverMeanTickTime), "ms"));
+                    src.sendMessage(Text.of("Movement events: ", TextColors.LIGHT_PURPLE, MovementEventCounters.getFired(),
+                            TextColors.RESET, " fired, ", TextColors.RED, MovementEventCounters.getSuppressed(), TextColors.RESET,
+                            " coalesced (", SpongeImpl.getGlobalConfig().getConfig().getMovementEvents().getCoalescing().name().toLowerCase(),
+                            ")"));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeTasksCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.tasks")
+                .description(Text.of("Provides asynchronous task statistics of plugins."))
+                .arguments(optional(plugin(Text.of("plugin"))))
+                .executor((src, args) -> {
+                    final SpongeScheduler scheduler = SpongeImpl.getScheduler();
+                    final Collection<PluginTaskMetrics> metrics;
+                    if (args.hasAny("plugin")) {
+                        metrics = args.<PluginContainer>getAll("plugin").stream()
+                                .map(scheduler::getAsyncTaskMetrics)
+                                .collect(Collectors.toList());
+                    } else {
+                        metrics = scheduler.getAsyncTaskMetrics();
+                    }
+                    if (metrics.isEmpty()) {
+                        src.sendMessage(Text.of("No plugin ran asynchronous tasks yet."));
+                        return CommandResult.success();
+                    }
+                    for (PluginTaskMetrics pluginMetrics : metrics) {
+                        printTaskMetrics(src, pluginMetrics);
+                    }
                     return CommandResult.success();
                 })
                 .build();
     }
 
+    private static void printTaskMetrics(CommandSource src, PluginTaskMetrics metrics) {
+        src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, metrics.getPlugin().getId(), TextColors.RESET, "] Queued: ",
+                TextColors.LIGHT_PURPLE, metrics.getQueuedTasks(), TextColors.RESET, ", Active: ", TextColors.LIGHT_PURPLE,
+                metrics.getActiveTasks(), TextColors.RESET, ", Completed: ", metrics.getCompletedTasks(), ", Rejected: ", TextColors.RED,
+                metrics.getRejectedTasks()));
+        src.sendMessage(Text.of(INDENT, "Wait (p50/p95/p99): ", TextColors.RED, formatNanos(metrics.getWaitTime(50)), "/",
+                formatNanos(metrics.getWaitTime(95)), "/", formatNanos(metrics.getWaitTime(99)), "ms", TextColors.RESET,
+                ", Run (p50/p95/p99): ", TextColors.RED, formatNanos(metrics.getRunTime(50)), "/", formatNanos(metrics.getRunTime(95)), "/",
+                formatNanos(metrics.getRunTime(99)), "ms"));
+    }
+
+    private static String formatNanos(long nanos) {
+        return THREE_DECIMAL_DIGITS_FORMATTER.format(nanos * 1.0e-6d);
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
                 getWorldTickTimes(((IMixinWorldServer) world).getDimensionId());
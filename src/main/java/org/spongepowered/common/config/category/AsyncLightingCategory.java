@@ -33,9 +33,14 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "enabled", comment = "If 'true', lighting updates are run asynchronously.")
     private boolean enabled = true;
 
-    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. (Default: 2)")
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. \n"
+                                               + "Updates in separate areas of a world are processed in parallel. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "queue-warning-threshold", comment = "The amount of queued lighting updates of a single world at which a warning is logged. \n"
+                                                           + "The current amount per world is shown by '/sponge chunks'. Set to 0 to disable. (Default: 0)")
+    private int queueWarningThreshold = 0;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +48,8 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public int getQueueWarningThreshold() {
+        return this.queueWarningThreshold;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class MovementEventsCategory extends ConfigCategory {
+
+    @Setting(value = "coalescing", comment = "Controls how often player movement events are thrown for the movement packets \n"
+                                           + "of a player. Movement that is not reported is folded into the next event thrown. \n"
+                                           + "'none' - An event is thrown for every movement packet that passes the movement thresholds. \n"
+                                           + "'tick' - At most one event is thrown per player and server tick. \n"
+                                           + "'block' - Position events are only thrown when the player enters another block, \n"
+                                           + "          rotation events are thrown as with 'none'.")
+    private String coalescing = "none";
+
+    public Coalescing getCoalescing() {
+        // Looked up for every movement packet, so avoid the array copy of Coalescing.values()
+        if ("tick".equalsIgnoreCase(this.coalescing)) {
+            return Coalescing.TICK;
+        }
+        if ("block".equalsIgnoreCase(this.coalescing)) {
+            return Coalescing.BLOCK;
+        }
+        return Coalescing.NONE;
+    }
+
+    public enum Coalescing {
+        NONE,
+        TICK,
+        BLOCK
+    }
+}
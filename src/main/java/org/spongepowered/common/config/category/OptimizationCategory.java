@@ -55,6 +55,34 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "async-chunk-serialization", comment = "Serializes the block data of saved chunks asynchronously.")
+    private AsyncChunkSerializationCategory asyncChunkSerializationCategory = new AsyncChunkSerializationCategory();
+
+    @Setting(value = "async-chunk-loading", comment = "Reads the chunks requested for players asynchronously.")
+    private AsyncChunkLoadingCategory asyncChunkLoadingCategory = new AsyncChunkLoadingCategory();
+
+    @Setting(value = "parallel-world-activation", comment = "Runs the activation range checks of the worlds in parallel.")
+    private ParallelWorldActivationCategory parallelWorldActivationCategory = new ParallelWorldActivationCategory();
+
+    @Setting(value = "cache-explosions", comment = "If 'true', caches block resistances, affected blocks and entity exposures \n"
+                                                 + "of explosions within a tick. This greatly reduces the cost of many explosions \n"
+                                                 + "at nearly the same position, such as in tnt cannons. Explosions at the same \n"
+                                                 + "position and of the same size will share the same random ray strengths.")
+    private boolean cacheExplosions = false;
+
+    @Setting(value = "inventory-slot-tracking", comment = "If 'true', open containers only compare the slots of chests, hoppers, dispensers, \n"
+                                                        + "droppers and shulker boxes against the contents last sent to the client \n"
+                                                        + "when the inventory was changed since. Inventories of mods are always compared. \n"
+                                                        + "Disable this if a mod changes the stacks of vanilla inventories without \n"
+                                                        + "marking them dirty, which would leave clients with outdated slots. \n"
+                                                        + "This also lets hoppers skip checking unchanged inventories they found full or empty.")
+    private boolean inventorySlotTracking = false;
+
+    @Setting(value = "cache-hopper-neighbors", comment = "If 'true', hoppers cache the tile entity inventories they pull from and push into \n"
+                                                       + "instead of looking them up in the world for every transfer attempt. \n"
+                                                       + "Chests are always looked up, as their inventory depends on the adjacent chests.")
+    private boolean cacheHopperNeighbors = false;
+
     @Setting(value = "eigen-redstone", comment = "Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     private EigenRedstoneCategory eigenRedstonCategory = new EigenRedstoneCategory();
 
@@ -136,6 +164,42 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public AsyncChunkSerializationCategory getAsyncChunkSerializationCategory() {
+        return this.asyncChunkSerializationCategory;
+    }
+
+    public boolean useAsyncChunkSerialization() {
+        return this.asyncChunkSerializationCategory.isEnabled();
+    }
+
+    public AsyncChunkLoadingCategory getAsyncChunkLoadingCategory() {
+        return this.asyncChunkLoadingCategory;
+    }
+
+    public boolean useAsyncChunkLoading() {
+        return this.asyncChunkLoadingCategory.isEnabled();
+    }
+
+    public ParallelWorldActivationCategory getParallelWorldActivationCategory() {
+        return this.parallelWorldActivationCategory;
+    }
+
+    public boolean useParallelWorldActivation() {
+        return this.parallelWorldActivationCategory.isEnabled();
+    }
+
+    public boolean useExplosionCache() {
+        return this.cacheExplosions;
+    }
+
+    public boolean useInventorySlotTracking() {
+        return this.inventorySlotTracking;
+    }
+
+    public boolean useHopperNeighborCache() {
+        return this.cacheHopperNeighbors;
+    }
+
     public EigenRedstoneCategory getEigenRedstoneCategory() {
         return this.eigenRedstonCategory;
     }
@@ -80,6 +80,16 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "pool-contexts", comment = "If 'true', the phase contexts of frequently entered phases, like entity, tile entity \n"
+                                              + "and block ticks, are reset and reused once completed instead of being created anew \n"
+                                              + "every time. This greatly reduces the amount of short lived objects on busy servers.")
+    private boolean poolContexts = true;
+
+    @Setting(value = "verify-pooled-contexts", comment = "If 'true', completed phase contexts are no longer reused, but instead \n"
+                                                       + "reported with a stack trace whenever they are still used after being completed. \n"
+                                                       + "Only useful to debug issues with 'pool-contexts', and should otherwise be disabled.")
+    private boolean verifyPooledContexts = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -121,4 +131,12 @@ public boolean generateStackTracePerStateEntry() {
     public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
+
+    public boolean poolContexts() {
+        return this.poolContexts;
+    }
+
+    public boolean verifyPooledContexts() {
+        return this.verifyPooledContexts;
+    }
 }
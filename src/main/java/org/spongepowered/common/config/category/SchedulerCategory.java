@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "bounded-async-executor", comment = "If 'true', asynchronous tasks are run on a bounded work-stealing pool, with \n"
+                                                       + "a limit on the amount of tasks a single plugin may run and queue at once. \n"
+                                                       + "If 'false', asynchronous tasks are run on an unbounded pool that spawns a new \n"
+                                                       + "thread whenever all existing threads are busy, which can starve the server \n"
+                                                       + "thread of CPU time when a plugin floods the scheduler with tasks.")
+    private boolean boundedExecutor = false;
+
+    @Setting(value = "async-pool-size", comment = "The amount of threads of the bounded async executor. \n"
+                                                + "If set to 0, the amount of available processors is used.")
+    private int poolSize = 0;
+
+    @Setting(value = "max-concurrent-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks a single plugin may run at once \n"
+                                                                + "on the bounded executor. Additional tasks wait in the plugin's queue. \n"
+                                                                + "If set to 0, only the size of the pool limits the plugin.")
+    private int maxConcurrentTasksPerPlugin = 4;
+
+    @Setting(value = "max-queued-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks of a single plugin that may wait \n"
+                                                            + "to be started on the bounded executor. Tasks submitted while the queue is \n"
+                                                            + "full are rejected and logged. If set to 0, the queue is unbounded.")
+    private int maxQueuedTasksPerPlugin = 10000;
+
+    @Setting(value = "latency-sample-size", comment = "The amount of recent task latencies kept per plugin to compute the \n"
+                                                    + "percentiles reported by the async executor metrics.")
+    private int latencySampleSize = 1024;
+
+    public boolean useBoundedExecutor() {
+        return this.boundedExecutor;
+    }
+
+    public int getPoolSize() {
+        return this.poolSize;
+    }
+
+    public int getMaxConcurrentTasksPerPlugin() {
+        return this.maxConcurrentTasksPerPlugin;
+    }
+
+    public int getMaxQueuedTasksPerPlugin() {
+        return this.maxQueuedTasksPerPlugin;
+    }
+
+    public int getLatencySampleSize() {
+        return this.latencySampleSize;
+    }
+}
@@ -97,6 +97,11 @@ public class WorldCategory extends ConfigCategory {
                                                    + "Note: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
 
+    @Setting(value = "sync-chunk-writes", comment = "If 'true', region files are synced to the disk after each batch of chunks written \n"
+                                                  + "to them. This protects saved chunks against power loss at the cost of disk throughput. \n"
+                                                  + "Note: Only the global setting is used. (Default: false)")
+    private boolean syncChunkWrites = false;
+
     @Setting(value = "item-merge-radius", comment = "The defined merge radius for Item entities such that when two items are \n"
                                                   + "within the defined radius of each other, they will attempt to merge. Usually, \n"
                                                   + "the default radius is set to 0.5 in Vanilla, however, for performance reasons \n"
@@ -230,6 +235,10 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public boolean getSyncChunkWrites() {
+        return this.syncChunkWrites;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
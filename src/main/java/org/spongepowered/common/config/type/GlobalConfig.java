@@ -39,7 +39,9 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.MovementChecksCategory;
+import org.spongepowered.common.config.category.MovementEventsCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
@@ -90,12 +92,18 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting("movement-checks")
     private MovementChecksCategory movementChecks = new MovementChecksCategory();
 
+    @Setting(value = "movement-events", comment = "Configuration options related to the player movement events")
+    private MovementEventsCategory movementEvents = new MovementEventsCategory();
+
     @Setting(value = "broken-mods", comment = "Stopgap measures for dealing with broken mods")
     private BrokenModCategory brokenMods = new BrokenModCategory();
 
     @Setting(value = "metrics")
     private MetricsCategory metricsCategory = new MetricsCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the execution of plugin scheduled tasks")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -165,7 +173,15 @@ public MovementChecksCategory getMovementChecks() {
         return this.movementChecks;
     }
 
+    public MovementEventsCategory getMovementEvents() {
+        return this.movementEvents;
+    }
+
     public MetricsCategory getMetricsCategory() {
         return this.metricsCategory;
     }
+
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
 }
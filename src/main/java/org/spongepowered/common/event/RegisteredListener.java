@@ -103,12 +103,15 @@ public int compareTo(RegisteredListener<?> handler) {
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
+        // The listeners in posting order, iterated without allocating when posting
+        private final RegisteredListener<?>[] listenerArray;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
 
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
+            this.listenerArray = listeners.toArray(new RegisteredListener<?>[0]);
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -123,6 +126,10 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        public RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
@@ -62,6 +62,7 @@ public class ShouldFire {
     public static boolean CHANGE_BLOCK_EVENT_PLACE = false;
     public static boolean CHANGE_BLOCK_EVENT_POST = false;
     public static boolean CHANGE_BLOCK_EVENT_GROW = false;
+    public static boolean CHANGE_BLOCK_EVENT_DECAY = false;
 
     public static boolean CLICK_INVENTORY_EVENT = false;
     public static boolean CLICK_INVENTORY_EVENT_DOUBLE = false;
@@ -98,6 +99,7 @@ public class ShouldFire {
     public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
     public static boolean EXPLOSION_EVENT_PRE = false;
     public static boolean EXPLOSION_EVENT_DETONATE = false;
+    public static boolean EXPLOSION_EVENT_POST = false;
     public static boolean GAME_REGISTRY_EVENT_REGISTER = false;
     public static boolean LOAD_CHUNK_EVENT = false;
     public static boolean COLLIDE_ENTITY_EVENT = false;
@@ -79,7 +79,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -107,6 +106,14 @@ public class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * A fast path in front of the {@link #handlersCache} for non generic
+     * events, looked up by the class of the event so no {@link EventType} has
+     * to be constructed when posting. The map is replaced whenever the
+     * handlers cache is invalidated.
+     */
+    private volatile Map<Class<?>, RegisteredListener.Cache> handlersByClass = new ConcurrentHashMap<>(150);
+
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
@@ -213,7 +220,7 @@ private void register(List<RegisteredListener<? extends Event>> handlers) {
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -363,7 +370,7 @@ private void unregister(Predicate<RegisteredListener<?>> unregister) {
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -384,21 +391,34 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
+    private void invalidateHandlers() {
+        this.handlersCache.invalidateAll();
+        this.handlersByClass = new ConcurrentHashMap<>(150);
+    }
+
     @SuppressWarnings({"ConstantConditions", "unchecked", "rawtypes"})
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            return this.handlersCache.get(new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType())));
         }
-        return this.handlersCache.get(eventType);
+        // Read the map once, so a cache baked while the handlers are being
+        // invalidated ends up in the discarded map
+        final Map<Class<?>, RegisteredListener.Cache> handlersByClass = this.handlersByClass;
+        RegisteredListener.Cache cache = handlersByClass.get(eventClass);
+        if (cache == null) {
+            cache = this.handlersCache.get(new EventType(eventClass, null));
+            handlersByClass.put(eventClass, cache);
+        }
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
-    private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+    private boolean post(Event event, RegisteredListener<?>[] handlers) {
+        if (handlers.length == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
@@ -418,24 +438,43 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
-                 final PhaseContext<?> context = createPluginContext(handler);
-                 final Timing timings = handler.getTimingsHandler()) {
-                frame.pushCause(handler.getPlugin());
-                if (context != null) {
-                    context.buildAndSwitch();
+        // Every listener phase is completed before the next listener is
+        // called, so the current state is the same for all of them.
+        final boolean allowsListenerPhase = PhaseTracker.getInstance().getCurrentState().allowsEventListener();
+        final CauseStackManager causeStackManager = Sponge.getCauseStackManager();
+        // Consecutive listeners of the same plugin share one cause frame, which is only
+        // replaced when the plugin changes or a listener popped the plugin cause
+        CauseStackManager.StackFrame frame = null;
+        try {
+            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+                final PluginContainer plugin = handler.getPlugin();
+                if (frame == null || causeStackManager.peekCause() != plugin) {
+                    if (frame != null) {
+                        frame.close();
+                    }
+                    frame = causeStackManager.pushCauseFrame();
+                    frame.pushCause(plugin);
                 }
-                timings.startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                try (final PhaseContext<?> context = allowsListenerPhase ? createPluginContext(handler) : null;
+                     final Timing timings = handler.getTimingsHandler()) {
+                    if (context != null) {
+                        context.buildAndSwitch();
+                    }
+                    timings.startTimingIfSync();
+                    if (event instanceof AbstractEvent) {
+                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    }
+                    handler.handle(event);
+                } catch (Throwable e) {
+                    // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
+                    final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
+                    printer.add("A listener threw an exception while being handled, this is usually not a sponge bug.");
+                    this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), plugin, e);
                 }
-                handler.handle(event);
-            } catch (Throwable e) {
-                // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
-                final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
-                printer.add("A listener threw an exception while being handled, this is usually not a sponge bug.");
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+            }
+        } finally {
+            if (frame != null) {
+                frame.close();
             }
         }
         if (event instanceof AbstractEvent) {
@@ -444,13 +483,9 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
-    @Nullable
     private ListenerPhaseContext createPluginContext(RegisteredListener<?> handler) {
-        if (PhaseTracker.getInstance().getCurrentState().allowsEventListener()) {
-            return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext()
-                .source(handler.getPlugin());
-        }
-        return null;
+        return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext()
+            .source(handler.getPlugin());
     }
 
     @Override
@@ -475,12 +510,12 @@ public boolean postServer(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        return post(event, getHandlerCache(event).getListenerArray());
     }
 
     public boolean post(Event event, PluginContainer plugin) {
         return post(event, getHandlerCache(event).getListeners().stream()
                 .filter(l -> l.getPlugin().equals(plugin))
-                .collect(Collectors.toList()));
+                .toArray(RegisteredListener<?>[]::new));
     }
 }
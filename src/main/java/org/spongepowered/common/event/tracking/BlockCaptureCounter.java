@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Counts, per {@link IPhaseState}, how many block changes were captured for
+ * {@link ChangeBlockEvent}s and how many were applied directly because no
+ * listener could observe them. Only updated while timings are enabled, and
+ * only updated and read on the {@link PhaseTracker} thread.
+ */
+public final class BlockCaptureCounter {
+
+    private static final int CAPTURED = 0;
+    private static final int ELIDED = 1;
+
+    private final Map<IPhaseState<?>, long[]> counts = new IdentityHashMap<>();
+
+    void record(IPhaseState<?> state, boolean captured) {
+        long[] stateCounts = this.counts.get(state);
+        if (stateCounts == null) {
+            stateCounts = new long[2];
+            this.counts.put(state, stateCounts);
+        }
+        stateCounts[captured ? CAPTURED : ELIDED]++;
+    }
+
+    /**
+     * Passes the name of every state that changed blocks to the consumer,
+     * together with its captured and elided change counts. Names shared by
+     * several states are suffixed to keep them apart.
+     *
+     * @param consumer The consumer of the state name and counts
+     */
+    public void forEach(BiConsumer<String, long[]> consumer) {
+        final Set<String> names = new HashSet<>();
+        for (Map.Entry<IPhaseState<?>, long[]> entry : this.counts.entrySet()) {
+            final String baseName = String.valueOf(entry.getKey());
+            String name = baseName;
+            for (int i = 2; !names.add(name); i++) {
+                name = baseName + "#" + i;
+            }
+            final long[] stateCounts = entry.getValue();
+            consumer.accept(name, new long[] {stateCounts[CAPTURED], stateCounts[ELIDED]});
+        }
+    }
+
+    public void reset() {
+        this.counts.clear();
+    }
+}
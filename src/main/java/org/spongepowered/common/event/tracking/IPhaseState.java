@@ -388,6 +388,21 @@ default void postProcessSpawns(C unwindingContext, ArrayList<org.spongepowered.a
     default boolean tracksOwnersAndNotifiers() {
         return false;
     }
+
+    /**
+     * Gets whether this state needs the block changes made while in it to be
+     * captured even when no listener could observe the {@link ChangeBlockEvent}s
+     * thrown for them, such as when the owner and notifier of changed blocks are
+     * assigned in {@link #postBlockTransactionApplication(BlockChange, Transaction, PhaseContext)}.
+     * Otherwise block changes are applied directly if nothing would observe them,
+     * see {@link PhaseTracker#capturesBlockChanges(IPhaseState, PhaseContext)}.
+     *
+     * @param context The current context
+     * @return True if block changes have to be captured for this state
+     */
+    default boolean requiresBlockCapturing(C context) {
+        return false;
+    }
     /**
      * Gets whether this state specifically supports splitting up {@link Block#dropBlockAsItem(net.minecraft.world.World, BlockPos, IBlockState, int)}
      * drops as some blocks may drop multiple items at once. In some cases, the individual block
@@ -61,6 +61,7 @@
 import org.spongepowered.common.event.tracking.context.ItemDropData;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.interfaces.entity.player.IMixinInventoryPlayer;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.world.BlockChange;
 
 import java.util.Collections;
@@ -105,6 +106,15 @@ public static PhaseContext<?> empty() {
     protected boolean isCompleted = false;
     // Only used in hard debugging instances.
     @Nullable private StackTraceElement[] stackTrace;
+    // The pool this context is returned to once closed, if it was pooled
+    @Nullable PhaseContextPool<P> pool;
+    // Only set when pooled contexts are verified, marks a closed context which may no longer be used
+    boolean isRecycled;
+
+    // The kinds of captures, the suppliers themselves are only created once something is captured
+    private boolean capturesBlocks;
+    private boolean capturesEntities;
+    private boolean capturesEntityDrops;
 
     // Single type bulk captures
     @Nullable private MultiBlockCaptureSupplier blocksSupplier;
@@ -134,6 +144,7 @@ public static PhaseContext<?> empty() {
     @Nullable private Object source;
 
     public P source(Object owner) {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
         return (P) this;
@@ -145,6 +156,7 @@ public P owner(Supplier<Optional<User>> supplier) {
     }
 
     public P owner(User owner) {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.owner != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
@@ -159,6 +171,7 @@ public P notifier(Supplier<Optional<User>> supplier) {
     }
 
     public P notifier(User notifier) {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.notifier != null) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
@@ -167,23 +180,12 @@ public P notifier(User notifier) {
         return (P) this;
     }
 
-    private void checkBlockSuppliers() {
-        checkState(this.blocksSupplier == null, "BlocksSuppler is already set!");
-        checkState(this.blockItemEntityDropsSupplier == null, "BlockItemEntityDropsSupplier is already set!");
-        checkState(this.blockItemDropsSupplier == null, "BlockItemDropsSupplier is already set!");
-        checkState(this.blockEntitySpawnSupplier == null, "BlockEntitySpawnSupplier is already set!");
-        checkState(this.captureBlockPos == null, "CaptureBlockPos is already set!");
-    }
-
     public P addBlockCaptures() {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.checkBlockSuppliers();
+        checkState(!this.capturesBlocks, "Block captures are already set!");
 
-        this.blocksSupplier = new MultiBlockCaptureSupplier();
-        this.blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
-        this.blockItemDropsSupplier = new BlockItemDropsSupplier();
-        this.blockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
-        this.captureBlockPos = new CaptureBlockPos();
+        this.capturesBlocks = true;
         return (P) this;
     }
 
@@ -195,24 +197,20 @@ public P addCaptures() {
     }
 
     public P addEntityCaptures() {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        checkState(this.capturedItemsSupplier == null, "CapturedItemsSupplier is already set!");
-        checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
-        checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
+        checkState(!this.capturesEntities, "Entity captures are already set!");
 
-        this.capturedItemsSupplier = new CapturedItemsSupplier();
-        this.capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.capturedItemStackSupplier = new CapturedItemStackSupplier();
+        this.capturesEntities = true;
         return (P) this;
     }
 
     public P addEntityDropCaptures() {
+        this.checkNotRecycled();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        checkState(this.entityItemDropsSupplier == null, "EntityItemDropsSupplier is already set!");
-        checkState(this.entityItemEntityDropsSupplier == null, "EntityItemEntityDropsSupplier is already set!");
+        checkState(!this.capturesEntityDrops, "Entity drop captures are already set!");
 
-        this.entityItemDropsSupplier = new EntityItemDropsSupplier();
-        this.entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
+        this.capturesEntityDrops = true;
         return (P) this;
     }
 
@@ -253,6 +251,7 @@ public boolean allowsBulkEntityCaptures() {
     }
 
     public P buildAndSwitch() {
+        this.checkNotRecycled();
         this.isCompleted = true;
         if (SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().generateStackTracePerStateEntry()) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
@@ -384,29 +383,45 @@ public boolean applyNotifierIfAvailable(Consumer<User> consumer) {
     }
 
     public List<Entity> getCapturedEntities() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.capturedEntitiesSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+            if (!this.capturesEntities) {
+                throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+            }
+            this.capturedEntitiesSupplier = new CapturedEntitiesSupplier();
         }
         return this.capturedEntitiesSupplier.get();
     }
 
     public CapturedSupplier<Entity> getCapturedEntitySupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.capturedEntitiesSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+            if (!this.capturesEntities) {
+                throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+            }
+            this.capturedEntitiesSupplier = new CapturedEntitiesSupplier();
         }
         return this.capturedEntitiesSupplier;
     }
 
     public List<EntityItem> getCapturedItems() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.capturedItemsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
+            if (!this.capturesEntities) {
+                throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
+            }
+            this.capturedItemsSupplier = new CapturedItemsSupplier();
         }
         return this.capturedItemsSupplier.get();
     }
 
     public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.capturedItemsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
+            if (!this.capturesEntities) {
+                throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
+            }
+            this.capturedItemsSupplier = new CapturedItemsSupplier();
         }
         return this.capturedItemsSupplier;
     }
@@ -441,8 +456,12 @@ public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalSta
      * @throws IllegalStateException If there is no capture supplier set up for this context
      */
     public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.blocksSupplier == null) {
-            throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
+            }
+            this.blocksSupplier = new MultiBlockCaptureSupplier();
         }
         return this.blocksSupplier.get();
     }
@@ -454,57 +473,89 @@ public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws Illeg
      * @throws IllegalStateException
      */
     public MultiBlockCaptureSupplier getCapturedBlockSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.blocksSupplier == null) {
-            throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
+            }
+            this.blocksSupplier = new MultiBlockCaptureSupplier();
         }
         return this.blocksSupplier;
     }
 
     public CapturedMultiMapSupplier<BlockPos, ItemDropData> getBlockDropSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.blockItemDropsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Expected to be capturing block drops!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Expected to be capturing block drops!", this).get();
+            }
+            this.blockItemDropsSupplier = new BlockItemDropsSupplier();
         }
         return this.blockItemDropsSupplier;
     }
 
     public CapturedMultiMapSupplier<BlockPos, EntityItem> getBlockItemDropSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.blockItemEntityDropsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to track block item drops!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Intended to track block item drops!", this).get();
+            }
+            this.blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
         }
         return this.blockItemEntityDropsSupplier;
     }
 
     public CapturedMultiMapSupplier<UUID, ItemDropData> getPerEntityItemDropSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.entityItemDropsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
+            if (!this.capturesEntityDrops) {
+                throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
+            }
+            this.entityItemDropsSupplier = new EntityItemDropsSupplier();
         }
         return this.entityItemDropsSupplier;
     }
 
     public CapturedMultiMapSupplier<UUID, EntityItem> getPerEntityItemEntityDropSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.entityItemEntityDropsSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
+            if (!this.capturesEntityDrops) {
+                throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
+            }
+            this.entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
         }
         return this.entityItemEntityDropsSupplier;
     }
 
     public CapturedSupplier<ItemDropData> getCapturedItemStackSupplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.capturedItemStackSupplier == null) {
-            throw TrackingUtil.throwWithContext("Expected to be capturing ItemStack drops from entities!", this).get();
+            if (!this.capturesEntities) {
+                throw TrackingUtil.throwWithContext("Expected to be capturing ItemStack drops from entities!", this).get();
+            }
+            this.capturedItemStackSupplier = new CapturedItemStackSupplier();
         }
         return this.capturedItemStackSupplier;
     }
 
     public CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> getPerBlockEntitySpawnSuppplier() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.blockEntitySpawnSupplier == null) {
-            throw TrackingUtil.throwWithContext("Intended to track block entity spawns!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Intended to track block entity spawns!", this).get();
+            }
+            this.blockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
         }
         return this.blockEntitySpawnSupplier;
     }
 
     public CaptureBlockPos getCaptureBlockPos() throws IllegalStateException {
+        this.checkNotRecycled();
         if (this.captureBlockPos == null) {
-            throw TrackingUtil.throwWithContext("Intended to capture a block position!", this).get();
+            if (!this.capturesBlocks) {
+                throw TrackingUtil.throwWithContext("Intended to capture a block position!", this).get();
+            }
+            this.captureBlockPos = new CaptureBlockPos();
         }
         return this.captureBlockPos;
     }
@@ -547,6 +598,10 @@ public boolean hasCaptures() {
     }
 
     public Optional<BlockPos> getBlockPosition() {
+        if (this.captureBlockPos == null && this.capturesBlocks) {
+            // Nothing set a position yet, no need to create the capture
+            return Optional.empty();
+        }
         return getCaptureBlockPos()
                 .getPos();
     }
@@ -602,6 +657,7 @@ public boolean isEmpty() {
 
     @Override
     public void close() { // Should never throw an exception
+        this.checkNotRecycled();
         if (this.isEmpty()) {
             // We aren't ever supposed to close here...
             PhaseTracker.getInstance()
@@ -615,18 +671,86 @@ public void close() { // Should never throw an exception
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
             }
-            return;
+        } else {
+            if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
+                // So, this part is interesting... Since the used frame is null, that means
+                // the cause stack manager still has the refernce of this context/phase, we have
+                // to "pop off" the list.
+                SpongeImpl.getCauseStackManager().popFrameMutator(this);
+            }
+            if (this.usedFrame != null) {
+                this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
+                this.usedFrame.clear();
+                this.usedFrame = null;
+            }
+        }
+        if (this.pool != null) {
+            this.pool.release((P) this);
+        }
+    }
+
+    /**
+     * Resets this context to the state it had when it was created, so
+     * that it can be handed out again by its {@link PhaseContextPool}.
+     * Subclasses holding their own state have to override this and reset
+     * that state as well.
+     *
+     * <p>Capture suppliers that are still empty are kept for the next use,
+     * anything still holding captures is dropped.</p>
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.stackTrace = null;
+        this.neighborNotificationSource = null;
+        this.singleSnapshot = null;
+        this.source = null;
+        this.owner = null;
+        this.notifier = null;
+        this.usedFrame = null;
+        this.allowsBlockEvents = true;
+        this.allowsEntityEvents = true;
+        this.allowsBulkBlockCaptures = true;
+        this.allowsBulkEntityCaptures = true;
+        this.capturesBlocks = false;
+        this.capturesEntities = false;
+        this.capturesEntityDrops = false;
+        // The block supplier tracks transactions and proxies next to its captures, it's never reused
+        this.blocksSupplier = null;
+        if (isNonEmpty(this.capturedItemsSupplier)) {
+            this.capturedItemsSupplier = null;
         }
-        if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
-            // So, this part is interesting... Since the used frame is null, that means
-            // the cause stack manager still has the refernce of this context/phase, we have
-            // to "pop off" the list.
-            SpongeImpl.getCauseStackManager().popFrameMutator(this);
+        if (isNonEmpty(this.capturedEntitiesSupplier)) {
+            this.capturedEntitiesSupplier = null;
         }
-        if (this.usedFrame != null) {
-            this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
-            this.usedFrame.clear();
-            this.usedFrame = null;
+        if (isNonEmpty(this.capturedItemStackSupplier)) {
+            this.capturedItemStackSupplier = null;
+        }
+        if (isNonEmpty(this.blockEntitySpawnSupplier)) {
+            this.blockEntitySpawnSupplier = null;
+        }
+        if (isNonEmpty(this.blockItemDropsSupplier)) {
+            this.blockItemDropsSupplier = null;
+        }
+        if (isNonEmpty(this.blockItemEntityDropsSupplier)) {
+            this.blockItemEntityDropsSupplier = null;
+        }
+        if (isNonEmpty(this.entityItemDropsSupplier)) {
+            this.entityItemDropsSupplier = null;
+        }
+        if (isNonEmpty(this.entityItemEntityDropsSupplier)) {
+            this.entityItemEntityDropsSupplier = null;
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((IMixinWorldServer) null);
+        }
+    }
+
+    private void checkNotRecycled() {
+        if (this.isRecycled) {
+            PhaseTracker.getInstance().printMessageWithCaughtException("Using a recycled PhaseContext",
+                "A pooled phase context was used after it was closed, this is likely an error from sponge.",
+                new IllegalStateException("Use of closed phase context " + this.getClass().getSimpleName() + " for " + this.state));
         }
     }
 
@@ -640,7 +764,7 @@ public List<EntityItem> getCapturedItemsOrEmptyList() {
     }
 
     public boolean isCapturingBlockItemDrops() {
-        return this.blockItemDropsSupplier != null || this.blockEntitySpawnSupplier != null;
+        return this.capturesBlocks;
     }
 
     public void printTrace(PrettyPrinter printer) {
@@ -651,27 +775,27 @@ public void printTrace(PrettyPrinter printer) {
     }
 
     public boolean allowsBlockPosCapturing() {
-        return this.captureBlockPos != null;
+        return this.capturesBlocks;
     }
 
     public boolean captureEntity(Entity entity) {
         // So, first we want to check if we're capturing per block position
-        if (this.captureBlockPos != null && this.captureBlockPos.getPos().isPresent() && this.blockEntitySpawnSupplier != null) {
+        if (this.capturesBlocks && this.captureBlockPos != null && this.captureBlockPos.getPos().isPresent()) {
             // If we are, then go ahead and check if we can put it into the desired lists
             final Optional<BlockPos> pos = this.captureBlockPos.getPos();
             // Is it an item entity and are we capturing per block entity item spawns?
-            if (entity instanceof EntityItem && this.blockItemEntityDropsSupplier != null) {
-                return this.blockItemEntityDropsSupplier.get().get(pos.get()).add((EntityItem) entity);
+            if (entity instanceof EntityItem) {
+                return this.getBlockItemDropSupplier().get().get(pos.get()).add((EntityItem) entity);
             }
             // Otherwise just default to per block entity spawns
-            return this.blockEntitySpawnSupplier.get().get(pos.get()).add(EntityUtil.toNative(entity));
+            return this.getPerBlockEntitySpawnSuppplier().get().get(pos.get()).add(EntityUtil.toNative(entity));
 
             // Or check if we're just bulk capturing item entities
-        } else if (entity instanceof EntityItem && this.capturedItemsSupplier != null) {
-            return this.capturedItemsSupplier.get().add((EntityItem) entity);
+        } else if (entity instanceof EntityItem && this.capturesEntities) {
+            return this.getCapturedItemsSupplier().get().add((EntityItem) entity);
             // Or last check of whether entities in general are being captured
-        } else if (this.capturedEntitiesSupplier != null) {
-            return this.capturedEntitiesSupplier.get().add(entity);
+        } else if (this.capturesEntities) {
+            return this.getCapturedEntitySupplier().get().add(entity);
         }
         // Throw an exception if we're not capturing at all but the state says we do?
         throw new IllegalStateException("Expected to capture entities, but we aren't capturing them.");
@@ -701,7 +825,7 @@ public boolean hasCapturedBlocks() {
     }
 
     public List<SpongeBlockSnapshot> getCapturedBlockChanges() {
-        return this.blocksSupplier.get();
+        return this.getCapturedBlockSupplier().get();
     }
 
     public SpongeBlockSnapshot getSingleSnapshot() {
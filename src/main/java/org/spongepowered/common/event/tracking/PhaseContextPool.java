@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.PhaseTrackerCategory;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link PhaseContext}s of a single {@link IPhaseState}, used by
+ * states that are entered very often, such as entity and tile entity ticks.
+ *
+ * <p>Contexts are only pooled when acquired on the {@link PhaseTracker}
+ * thread, and are reset and returned to the pool when they are
+ * {@link PhaseContext#close() closed}. Contexts must therefore never be
+ * used once closed, which can be verified by enabling
+ * {@link PhaseTrackerCategory#verifyPooledContexts()}.</p>
+ *
+ * @param <C> The type of context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    // Contexts of the same state are rarely nested deeply
+    private static final int MAX_POOLED_CONTEXTS = 8;
+
+    private final Supplier<C> factory;
+    private final ArrayDeque<C> pooled = new ArrayDeque<>(MAX_POOLED_CONTEXTS);
+
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Gets a context that is ready for use, either from the pool or
+     * newly created.
+     *
+     * @return The context
+     */
+    public C acquire() {
+        if (Thread.currentThread() != PhaseTracker.getInstance().getSidedThread()
+                || !SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().poolContexts()) {
+            return this.factory.get();
+        }
+        C context = this.pooled.pollFirst();
+        if (context == null) {
+            context = this.factory.get();
+        }
+        context.pool = this;
+        return context;
+    }
+
+    void release(C context) {
+        context.pool = null;
+        if (SpongeImpl.getGlobalConfig().getConfig().getPhaseTracker().verifyPooledContexts()) {
+            // Never reuse the context, so any later access is reported instead of corrupting another phase
+            context.isRecycled = true;
+            return;
+        }
+        context.reset();
+        if (this.pooled.size() < MAX_POOLED_CONTEXTS) {
+            this.pooled.push(context);
+        }
+    }
+}
@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import co.aikar.timings.Timings;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockRedstoneWire;
@@ -211,6 +212,7 @@ public static PhaseTracker getInstance() {
     };
 
     private final PhaseStack stack = new PhaseStack();
+    private final BlockCaptureCounter blockCaptureCounter = new BlockCaptureCounter();
 
     private boolean hasPrintedEmptyOnce = false;
     private boolean hasPrintedAboutRunnawayPhases = false;
@@ -642,6 +644,36 @@ public IPhaseState<?> getCurrentState() {
         return this.stack.peekState();
     }
 
+    public BlockCaptureCounter getBlockCaptureCounter() {
+        return this.blockCaptureCounter;
+    }
+
+    /**
+     * Gets whether block changes made while in the given state need to be
+     * captured, which is only the case if a listener could observe the
+     * {@link ChangeBlockEvent}s thrown for the captured changes, or the
+     * state {@link IPhaseState#requiresBlockCapturing(PhaseContext) requires}
+     * them for its own processing. Listeners of {@link ChangeBlockEvent.Pre}
+     * alone don't need any captures, since the event is thrown before the
+     * change is made.
+     *
+     * @param state The current state
+     * @param context The current context
+     * @return True if block changes are to be captured
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static boolean capturesBlockChanges(IPhaseState state, PhaseContext<?> context) {
+        return ShouldFire.CHANGE_BLOCK_EVENT
+               && (ShouldFire.CHANGE_BLOCK_EVENT_BREAK
+                   || ShouldFire.CHANGE_BLOCK_EVENT_PLACE
+                   || ShouldFire.CHANGE_BLOCK_EVENT_MODIFY
+                   || ShouldFire.CHANGE_BLOCK_EVENT_DECAY
+                   || ShouldFire.CHANGE_BLOCK_EVENT_GROW
+                   || ShouldFire.CHANGE_BLOCK_EVENT_POST
+                   || ShouldFire.EXPLOSION_EVENT_POST
+                   || state.requiresBlockCapturing(context));
+    }
+
     public PhaseContext<?> getCurrentContext() {
         return this.stack.peekContext();
     }
@@ -681,7 +713,7 @@ public void notifyBlockOfStateChange(final IMixinWorldServer mixinWorld, final I
             // If the phase state does not want to allow neighbor notifications to leak while processing,
             // it needs to be able to do so. It will replay the notifications in the order in which they were received,
             // such that the notification will be sent out in the same order as the block changes that may have taken place.
-            if ((ShouldFire.CHANGE_BLOCK_EVENT || ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) && state.doesCaptureNeighborNotifications(peek)) {
+            if ((ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT || capturesBlockChanges(state, peek)) && state.doesCaptureNeighborNotifications(peek)) {
                 peek.getCapturedBlockSupplier().captureNeighborNotification(mixinWorld, notifyState, notifyPos, sourceBlock, sourcePos);
                 return;
             }
@@ -800,6 +832,12 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
         // physics handling.
 
         final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+        // Nothing can observe the change if no listener is registered for the events thrown
+        // from captured changes, so MixinChunk applies it directly instead of capturing it.
+        final boolean capturesBlockChanges = capturesBlockChanges(phaseState, context);
+        if (Timings.isTimingsEnabled()) {
+            this.blockCaptureCounter.record(phaseState, capturesBlockChanges);
+        }
         // Sponge - Use our mixin method that allows using the BlockChangeFlag.
 
         final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, spongeFlag);
@@ -821,7 +859,7 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
         //  by short circuiting here, we avoid additional block processing that would otherwise
         //  have potential side effects (and MixinChunk#setBlockState does a wonderful job at avoiding
         //  unnecessary logic in those cases).
-        if (((IPhaseState) phaseState).doesBulkBlockCapture(context) && ShouldFire.CHANGE_BLOCK_EVENT) {
+        if (capturesBlockChanges && ((IPhaseState) phaseState).doesBulkBlockCapture(context)) {
             // Basically at this point, there's nothing left for us to do since
             // MixinChunk will capture the block change, and submit it to be
             // "captured". It's only when there's immediate block event
@@ -829,7 +867,7 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
             // that transaction.
             return true;
         }
-        if (((IPhaseState) phaseState).doesBlockEventTracking(context) && ShouldFire.CHANGE_BLOCK_EVENT) {
+        if (capturesBlockChanges && ((IPhaseState) phaseState).doesBlockEventTracking(context)) {
             try {
                 // Fall back to performing a singular block capture and throwing an event with all the
                 // repercussions, such as neighbor notifications and whatnot. Entity spawns should also be
@@ -996,8 +1034,8 @@ public boolean spawnEntity(World world, Entity entity) {
             // capture all entities until the phase is marked for completion.
             if (!isForced) {
                 if (ShouldFire.SPAWN_ENTITY_EVENT
-                    || (ShouldFire.CHANGE_BLOCK_EVENT // This bottom part of the if is due to needing to be able to capture block entity spawns
-                                                      // while block events are being listened to
+                    || (capturesBlockChanges(phaseState, context) // This bottom part of the if is due to needing to be able to capture block entity spawns
+                                                         // while block events are being listened to
                         && ((IPhaseState) phaseState).doesBulkBlockCapture(context)
                         && ((IPhaseState) phaseState).tracksBlockSpecificDrops(context)
                         && context.getCaptureBlockPos().getPos().isPresent())) {
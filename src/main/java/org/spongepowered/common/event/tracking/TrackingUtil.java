@@ -409,7 +409,7 @@ static boolean processBlockCaptures(IPhaseState<?> state, PhaseContext<?> contex
             if (((IPhaseState) state).hasSpecificBlockProcess(context) && supplier.hasTransactions()) {
                 // Then we just need to process the transactions, there may be things that are not
                 // specifically block captured
-                ListMultimap<BlockPos, BlockEventData> scheduledEvents = supplier.getScheduledEvents();
+                ListMultimap<BlockPos, BlockEventData> scheduledEvents = supplier.drainScheduledEvents();
                 // Clear captured snapshots after processing them
                 supplier.clear();
                 return supplier.processTransactions(ImmutableList.of(), context, true, scheduledEvents, currentDepth);
@@ -426,7 +426,7 @@ static boolean processBlockCaptures(IPhaseState<?> state, PhaseContext<?> contex
         }
 
         createTransactionLists(state, context, supplier, transactionArrays, transactionBuilders);
-        ListMultimap<BlockPos, BlockEventData> scheduledEvents = supplier.getScheduledEvents();
+        ListMultimap<BlockPos, BlockEventData> scheduledEvents = supplier.drainScheduledEvents();
 
         // Clear captured snapshots after processing them
         supplier.clear();
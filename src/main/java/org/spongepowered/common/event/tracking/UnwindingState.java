@@ -334,6 +334,13 @@ public void postBlockTransactionApplication(BlockChange blockChange, Transaction
     }
 
 
+    @Override
+    public boolean requiresBlockCapturing(UnwindingPhaseContext context) {
+        final IPhaseState<?> unwindingState = context.getUnwindingState();
+        final PhaseContext unwindingContext = context.getUnwindingContext();
+        return ((IPhaseState) unwindingState).requiresBlockCapturing(unwindingContext);
+    }
+
     @Override
     public String toString() {
         return "GeneralPhase{UnwindingState}";
@@ -24,14 +24,11 @@
  */
 package org.spongepowered.common.event.tracking.context;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -54,18 +51,17 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinChunk;
+import org.spongepowered.common.util.LongListMultimap;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -75,11 +71,11 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
 
     public static final boolean PRINT_TRANSACTIONS = Boolean.valueOf(System.getProperty("sponge.debugBlockTransactions", "false"));
 
-    @Nullable private LinkedListMultimap<BlockPos, SpongeBlockSnapshot> multimap;
+    // All captured snapshots, chained per packed block position in the order they were captured
+    @Nullable private LongListMultimap<SpongeBlockSnapshot> changes;
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     private boolean hasMulti = false;
@@ -97,16 +93,16 @@ public MultiBlockCaptureSupplier() {
     }
 
     /**
-     * Captures the provided {@link BlockSnapshot} into a {@link Multimap} backed collection.
-     * The premise is that each {@link BlockPos} normally has a single {@link BlockChange},
-     * with the exceptions of certain few cases where multiple changes can occur for the same
-     * position. The larger issue is that while the multiple changes are tracked, the desired
-     * flag of changes does not result in a valid {@link BlockChange}, and therefor an invalid
-     * {@link ChangeBlockEvent} is generated, potentially leading to duplication bugs with
-     * protection plugins. As a result, the consuming {@link BlockSnapshot} is placed into
-     * a {@link ListMultimap} keyed by the {@link BlockPos}, and if there are multiple snapshots
-     * per {@link BlockPos}, {@link #hasMultiChanges()} will be {@code true}, and this method
-     * will return {@code true}.
+     * Captures the provided {@link BlockSnapshot} into a {@link LongListMultimap} keyed
+     * by the packed {@link BlockPos}. The premise is that each {@link BlockPos} normally
+     * has a single {@link BlockChange}, with the exceptions of certain few cases where
+     * multiple changes can occur for the same position. The larger issue is that while
+     * the multiple changes are tracked, the desired flag of changes does not result in a
+     * valid {@link BlockChange}, and therefor an invalid {@link ChangeBlockEvent} is
+     * generated, potentially leading to duplication bugs with protection plugins. As a
+     * result, if there are multiple snapshots per {@link BlockPos}, the original snapshot
+     * has its {@link BlockChange} re-evaluated and {@link #hasMultiChanges()} will be
+     * {@code true}.
      *
      * @param snapshot The snapshot being captured
      * @param newState The most current new IBlockState to calculate the BlockChange flag
@@ -116,65 +112,20 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
         // Start by figuring out the backing snapshot. In all likelyhood, we could just cast, but we want to be safe
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
-        final BlockPos blockPos = backingSnapshot.getBlockPos();
-        if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
-            // At this point, we know we have not captured anything and
-            // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
-
-            this.usedBlocks.add(blockPos);
+        final long key = backingSnapshot.getBlockPos().toLong();
+        if (this.changes == null) {
+            this.changes = new LongListMultimap<>();
+        }
+        if (this.changes.put(key, backingSnapshot)) {
+            // The position hasn't been captured yet, so this is the original snapshot being changed, for the list usage.
             this.addSnapshot(backingSnapshot);
             return true;
         }
-        // This isn't our first rodeo...
-        final boolean added = this.usedBlocks.add(blockPos); // add it to the set of positions already used and use the boolean
-        if (this.hasMulti) {
-            // Means we've already got multiple changes per position once before.
-            // Likewise, the used blocks, snapshots and multimap will NOT be null.
-            // more fasts, we know we have multiple block positions.
-            // And we can find out if this is the first time we
-            if (added) {
-                // If the position hasn't been captured yet, that means we need to add it as an original
-                // snapshot being changed, for the list usage.
-                this.addSnapshot(backingSnapshot);
-            }
-            // we don't have to
-            this.multimap.put(blockPos, backingSnapshot);
-
-            // If the position is duplicated, we need to update the original snapshot of the now incoming block change
-            // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
-            if (!added) {
-                associateBlockChangeForPosition(newState, blockPos);
-            }
-            return added;
-        }
-        // We have not yet checked if this incoming snapshot is a duplicate position
-        if (!added) {
-            // Ok, means we have a multi change on a same position, now to use the multimap
-            // for probably the first time.
-            if (this.multimap == null) {
-                // If the multimap hasn't been populated yet, well, now we have to populate the multimap and eliminate the list.
-                this.multimap = LinkedListMultimap.create(); // LinkedListMultimap is insertion order respective, so the backed lists per
-                // Now to populate it from the previously used list of snapshots...
-                for (SpongeBlockSnapshot existing : this.snapshots) { // Ignore snapshots potentially being null, it will never be null at this point.
-                    this.multimap.put(existing.getBlockPos(), existing);
-                }
-            }
-            // And place the snapshot into the multimap.
-            this.multimap.put(blockPos, backingSnapshot);
-            // Now we can re-evaluate the modified block position
-            // If the position is duplicated, we need to update the original snapshot of the now incoming block change
-            // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
-            associateBlockChangeForPosition(newState, blockPos);
-            // Flip the boolean to have fasts for next entry
-            this.hasMulti = true;
-            return false;
-        }
-        // At this point, we haven't captured the block position yet.
-        // and we can check if the list is null.
-        this.addSnapshot(backingSnapshot);
-        // And this is the only time that we return true, if we have not caught multiple transactions per position before.
-        return true;
+        // If the position is duplicated, we need to update the original snapshot of the now incoming block change
+        // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
+        associateBlockChangeForPosition(newState, key);
+        this.hasMulti = true;
+        return false;
     }
 
     private void addSnapshot(SpongeBlockSnapshot backingSnapshot) {
@@ -190,17 +141,16 @@ private void addSnapshot(SpongeBlockSnapshot backingSnapshot) {
      * already guaranteed original {@link SpongeBlockSnapshot} for proper event
      * creation when multiple block changes exist for the provided {@link BlockPos}.
      *
-     * <p>Note: This method <strong>requires</strong> that {@link #hasMulti} is {@code true},
-     * otherwise the state of {@link #multimap} may be {@code null} and cause an NPE.</p>
+     * <p>Note: This method <strong>requires</strong> that {@link #changes} is populated,
+     * otherwise it will cause an NPE.</p>
      *
      * @param newState The incoming block change to compare to change
-     * @param blockPos The block position to get the backing list from the multimap
+     * @param key The packed block position to get the original snapshot for
      */
     @SuppressWarnings("unchecked")
-    private void associateBlockChangeForPosition(IBlockState newState, BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
-        if (list != null && !list.isEmpty()) {
-            final SpongeBlockSnapshot originalSnapshot = list.get(0);
+    private void associateBlockChangeForPosition(IBlockState newState, long key) {
+        final SpongeBlockSnapshot originalSnapshot = this.changes.getFirst(key);
+        if (originalSnapshot != null) {
             final PhaseContext<?> peek = PhaseTracker.getInstance().getCurrentContext();
             final IBlockState currentState = BlockUtil.toNative(originalSnapshot.getState());
             originalSnapshot.blockChange = ((IPhaseState) peek.state).associateBlockChangeWithSnapshot(peek, newState, newState.getBlock(), currentState, originalSnapshot, currentState.getBlock());
@@ -223,9 +173,8 @@ public boolean hasMultiChanges() {
      *     <li>Submitted {@link BlockSnapshot}s are to be added by the
      *     {@link #put(BlockSnapshot, IBlockState)} method.</li>
      *     <li>Adding multiple {@link BlockSnapshot}s per {@link BlockPos}
-     *     results in an internal restructuring of storage such that a
-     *     {@link Multimap} is created to keep track of intermediary
-     *     {@link BlockSnapshot}s. By this nature, the list cannot be modified
+     *     keeps track of intermediary {@link BlockSnapshot}s per position
+     *     next to this list. By this nature, the list cannot be modified
      *     except by this capture object.</li>
      *     <li>Removing a {@link BlockSnapshot} is only applicable via
      *     {@link #prune(BlockSnapshot)} or {@link #clear()}. This is to
@@ -252,20 +201,20 @@ public final void prune(BlockSnapshot snapshot) {
         // Start by figuring out the backing snapshot. In all likelyhood, we could just cast, but we want to be safe
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
-        final BlockPos blockPos = backingSnapshot.getBlockPos();
+        final long key = backingSnapshot.getBlockPos().toLong();
         // Check if we have a multi-pos
         if (this.hasMulti) {
-            pruneFromMulti(backingSnapshot, blockPos);
+            pruneFromMulti(backingSnapshot, key);
             return;
         }
-        pruneSingle(backingSnapshot, blockPos);
+        pruneSingle(backingSnapshot, key);
         if (this.head != null) {
             pruneTransaction(getBackingSnapshot(snapshot));
         }
     }
 
-    private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
-        if (this.usedBlocks == null) {
+    private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final long key) {
+        if (this.changes == null) {
             // means we didn't actually capture???
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
@@ -273,38 +222,23 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
             // also means we didn't capture.... wtf is going on at this point?
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
-        this.usedBlocks.remove(blockPos);
+        this.changes.removeAll(key);
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
-    private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(blockPos);
-        if (snapshots != null) {
-            for (final Iterator<SpongeBlockSnapshot> iterator = snapshots.iterator(); iterator.hasNext(); ) {
-                final SpongeBlockSnapshot next = iterator.next();
-                if (next.getState().equals(backingSnapshot.getState())) {
-                    iterator.remove();
+    private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final long key) {
+        if (!this.changes.removeFirst(key, next -> next.getState().equals(backingSnapshot.getState()))) {
+            return;
+        }
+        // If the position has no changes left, we need to prune the snapshot from the list of firsts
+        if (!this.changes.containsKey(key)) {
+            for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
+                final SpongeBlockSnapshot next = firsts.next();
+                if (next.equals(backingSnapshot)) {
+                    firsts.remove();
                     break;
                 }
             }
-            // If the list view is now empty, we need to prune the position from the multimap
-            if (snapshots.isEmpty()) {
-                this.multimap.removeAll(blockPos);
-                // And then prune the snapshot from the list of firsts
-                for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
-                    final SpongeBlockSnapshot next = firsts.next();
-                    if (next.equals(backingSnapshot)) {
-                        firsts.remove();
-                        // And if it's been found, remove the position from the used blocks as well.
-                        this.usedBlocks.remove(blockPos);
-                        break;
-                    }
-                }
-                if (this.snapshots.isEmpty()) {
-                    this.multimap = null;
-
-                }
-            }
         }
     }
 
@@ -345,18 +279,16 @@ public final boolean isEmpty() {
      *
      * @param consumer The consumer to activate
      */
-    @SuppressWarnings("UnstableApiUsage") // Guava marks Multimaps.asMap as Beta features
     public final void acceptAndClearIfNotEmpty(BiConsumer<List<? extends BlockSnapshot>, Map<BlockPos, List<BlockSnapshot>>> consumer) {
-        if (this.multimap != null) {
-            final List<? extends BlockSnapshot> blockSnapshots = get();
-            // Since multimaps provide a view when asMap is called, we need to recreate the collection
-            // of the map to pass into the consumer
-            final Map<BlockPos, List<SpongeBlockSnapshot>> view = Multimaps.asMap(this.multimap);
-            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(view.size());
-            for (Map.Entry<BlockPos, List<SpongeBlockSnapshot>> entryView : view.entrySet()) {
-                map.put(entryView.getKey(), new ArrayList<>(entryView.getValue()));
+        if (this.hasMulti && this.snapshots != null) {
+            final List<? extends BlockSnapshot> blockSnapshots = new ArrayList<>(this.snapshots);
+            // The firsts are in the order their positions were captured, which is the order of the map
+            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(blockSnapshots.size());
+            for (SpongeBlockSnapshot first : this.snapshots) {
+                map.put(first.getBlockPos(), new ArrayList<>(this.changes.get(first.getBlockPos().toLong(), 0)));
             }
-            this.multimap.clear(); // Clean captured lists before they get potentially contaminated by processing.
+            this.changes.clear(); // Clean captured lists before they get potentially contaminated by processing.
+            this.hasMulti = false;
             consumer.accept(blockSnapshots, map); // Accept the list and map
         }
     }
@@ -556,17 +488,13 @@ public void cancelTransaction(BlockSnapshot original) {
 
     public void clear() {
         this.hasMulti = false;
-        if (this.multimap != null) {
-            this.multimap.clear();
-            this.multimap = null;
+        if (this.changes != null) {
+            this.changes.clear();
         }
         if (this.snapshots != null) {
             this.snapshots.clear();
             this.snapshots = null;
         }
-        if (this.usedBlocks != null) {
-            this.usedBlocks.clear();
-        }
         if (this.scheduledEvents != null) {
             this.scheduledEvents.clear();
         }
@@ -596,33 +524,19 @@ public Transaction<BlockSnapshot> createTransaction(SpongeBlockSnapshot snapshot
             ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, BlockChangeFlags.NONE);
         // Up until this point, we can create a default Transaction
         if (this.hasMulti) { // But we need to check if there's any intermediary block changes...
-            // And because multi is true, we can be sure the multimap is populated at least somewhere.
-            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos);
-            if (!intermediary.isEmpty() && intermediary.size() > 1) {
-                // We need to make a carbon copy of the list since it's technically a key view list
-                // within the multimap, so, if the multimap is cleared, at the very least, the list will
-                // not be cleared. Likewise, we also need to skip over the first element since the snapshots
-                // list will have that element anyways (we don't want to be providing duplicate snapshots
-                // for plugins to witness and come to expect that they are intermediary states, when they're still the original positions
-                ImmutableList.Builder<SpongeBlockSnapshot> builder = ImmutableList.builder();
-                boolean movedPastFirst = false;
-                for (Iterator<SpongeBlockSnapshot> iterator = intermediary.iterator(); iterator.hasNext(); ) {
-                    if (!movedPastFirst) {
-                        iterator.next();
-                        movedPastFirst = true;
-                        continue;
-                    }
-                    builder.add(iterator.next());
-
-                }
-                return new Transaction<>(snapshot, newSnapshot, builder.build());
+            // We need to skip over the first element since the snapshots list will have that element
+            // anyways (we don't want to be providing duplicate snapshots for plugins to witness and come
+            // to expect that they are intermediary states, when they're still the original positions
+            final ImmutableList<SpongeBlockSnapshot> intermediary = this.changes.get(blockPos.toLong(), 1);
+            if (!intermediary.isEmpty()) {
+                return new Transaction<>(snapshot, newSnapshot, intermediary);
             }
         }
         return new Transaction<>(snapshot, newSnapshot);
     }
 
     public boolean trackEvent(BlockPos pos, BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.changes != null && this.changes.containsKey(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -632,8 +546,20 @@ public boolean trackEvent(BlockPos pos, BlockEventData blockEventData) {
         return false;
     }
 
-    public ListMultimap<BlockPos, BlockEventData> getScheduledEvents() {
-        return this.scheduledEvents == null || this.scheduledEvents.isEmpty() ? ImmutableListMultimap.of() : ArrayListMultimap.create(this.scheduledEvents);
+    /**
+     * Drains the block events scheduled for captured positions. The caller
+     * owns the returned multimap, it is no longer referenced by this supplier
+     * and any later call only returns events scheduled after this one.
+     *
+     * @return The scheduled block events, empty and immutable if there are none
+     */
+    public ListMultimap<BlockPos, BlockEventData> drainScheduledEvents() {
+        if (this.scheduledEvents == null || this.scheduledEvents.isEmpty()) {
+            return ImmutableListMultimap.of();
+        }
+        final ListMultimap<BlockPos, BlockEventData> scheduledEvents = this.scheduledEvents;
+        this.scheduledEvents = null;
+        return scheduledEvents;
     }
 
     @SuppressWarnings({"unchecked", "ReturnInsideFinallyBlock"})
@@ -777,7 +703,7 @@ public boolean equals(@Nullable Object obj) {
             return false;
         }
         final MultiBlockCaptureSupplier other = (MultiBlockCaptureSupplier) obj;
-        return Objects.equals(this.multimap, other.multimap);
+        return Objects.equals(this.snapshots, other.snapshots);
     }
 
     @Override
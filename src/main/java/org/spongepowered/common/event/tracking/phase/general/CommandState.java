@@ -89,6 +89,11 @@ public boolean ignoresItemPreMerging() {
         return true;
     }
 
+    @Override
+    public boolean requiresBlockCapturing(CommandPhaseContext context) {
+        return true;
+    }
+
     @Override
     public void postBlockTransactionApplication(BlockChange blockChange, Transaction<BlockSnapshot> transaction, CommandPhaseContext context) {
         // We want to investigate if there is a user on the cause stack
@@ -93,6 +93,11 @@ public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, BasicPack
         context.handUsed(handType);
     }
 
+    @Override
+    public boolean requiresBlockCapturing(BasicPacketContext context) {
+        return true;
+    }
+
     @Override
     public void postBlockTransactionApplication(BlockChange blockChange, Transaction<BlockSnapshot> transaction,
         BasicPacketContext context) {
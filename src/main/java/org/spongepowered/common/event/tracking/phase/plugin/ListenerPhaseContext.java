@@ -41,7 +41,8 @@ public class ListenerPhaseContext extends PluginPhaseContext<ListenerPhaseContex
 
 
     Object object;
-    private CapturePlayer capturePlayer;
+    @Nullable private CapturePlayer capturePlayer;
+    private boolean capturesPlayer;
 
     ListenerPhaseContext(IPhaseState<ListenerPhaseContext> state) {
         super(state);
@@ -59,8 +60,11 @@ public ListenerPhaseContext event(Object obj) {
 
     public ListenerPhaseContext player() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        checkState(this.capturePlayer == null, "Already capturing a player object!");
-        this.capturePlayer = new CapturePlayer();
+        checkState(!this.capturesPlayer, "Already capturing a player object!");
+        this.capturesPlayer = true;
+        if (this.capturePlayer == null) {
+            this.capturePlayer = new CapturePlayer();
+        }
         return this;
     }
 
@@ -69,7 +73,7 @@ public Object getEvent() {
     }
 
     public CapturePlayer getCapturedPlayerSupplier() throws IllegalStateException {
-        if (this.capturePlayer == null) {
+        if (!this.capturesPlayer || this.capturePlayer == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this)
                 .get();
         }
@@ -91,6 +95,16 @@ public PrettyPrinter printCustom(PrettyPrinter printer, int indent) {
         return printer;
     }
 
+    @Override
+    protected void reset() {
+        super.reset();
+        this.object = null;
+        this.capturesPlayer = false;
+        if (this.capturePlayer != null) {
+            this.capturePlayer.player = null;
+        }
+    }
+
     public static final class CapturePlayer {
 
         @Nullable Player player;
@@ -31,6 +31,7 @@
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.interfaces.block.IMixinBlockEventData;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
@@ -42,9 +43,11 @@
  */
 abstract class ListenerPhaseState extends PluginPhaseState<ListenerPhaseContext> {
 
+    private final PhaseContextPool<ListenerPhaseContext> contextPool = new PhaseContextPool<>(() -> new ListenerPhaseContext(this));
+
     @Override
     public ListenerPhaseContext createPhaseContext() {
-        return new ListenerPhaseContext(this)
+        return this.contextPool.acquire()
             .addCaptures()
             .player();
     }
@@ -129,6 +129,12 @@ public boolean doesCaptureEntitySpawns() {
         return false;
     }
 
+    @Override
+    public boolean requiresBlockCapturing(BlockEventTickContext context) {
+        // The owner and notifier of the block event are tracked onto the changed blocks from the captured changes
+        return context.getNotifier().isPresent() || context.getOwner().isPresent();
+    }
+
     @Override
     public void postBlockTransactionApplication(BlockChange blockChange,
         Transaction<BlockSnapshot> snapshotTransaction, BlockEventTickContext context) {
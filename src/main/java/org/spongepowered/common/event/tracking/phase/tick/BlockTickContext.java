@@ -57,4 +57,12 @@ public BlockTickContext source(Object owner) {
         }
         return this;
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.tickingBlock = null;
+        this.providesModifier = false;
+        this.world = null;
+    }
 }
@@ -55,6 +55,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
@@ -74,6 +75,7 @@ class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext>
                 context.tickingBlock.getTickFrameModifier().accept(frame, (IMixinWorldServer) context.world);
             }
         );
+    private final PhaseContextPool<BlockTickContext> contextPool = new PhaseContextPool<>(() -> new BlockTickContext(this));
     private final String name;
 
     BlockTickPhaseState(String name) {
@@ -87,7 +89,7 @@ public BiConsumer<CauseStackManager.StackFrame, BlockTickContext> getFrameModifi
 
     @Override
     public BlockTickContext createPhaseContext() {
-        return new BlockTickContext(this)
+        return this.contextPool.acquire()
                 .addCaptures();
     }
 
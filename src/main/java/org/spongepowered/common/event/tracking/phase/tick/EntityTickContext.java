@@ -65,4 +65,15 @@ public void populateEntityPosition(Entity entity) {
         this.prevZ = entity.lastTickPosZ;
 
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.posX = 0;
+        this.posY = 0;
+        this.posZ = 0;
+        this.prevX = 0;
+        this.prevY = 0;
+        this.prevZ = 0;
+    }
 }
@@ -48,6 +48,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.util.VecHelper;
@@ -62,6 +63,8 @@
 
 class EntityTickPhaseState extends TickPhaseState<EntityTickContext> {
 
+    private final PhaseContextPool<EntityTickContext> contextPool = new PhaseContextPool<>(() -> new EntityTickContext(this));
+
     private final BiConsumer<CauseStackManager.StackFrame, EntityTickContext> ENTITY_TICK_MODIFIER =
         super.getFrameModifier().andThen((frame, context) -> {
             final Entity tickingEntity = context.getSource(Entity.class)
@@ -236,7 +239,13 @@ private void appendContextOfPossibleEntityDeath(Entity tickingEntity, CauseStack
 
     @Override
     public EntityTickContext createPhaseContext() {
-        return new EntityTickContext(this).addCaptures();
+        return this.contextPool.acquire().addCaptures();
+    }
+
+    @Override
+    public boolean requiresBlockCapturing(EntityTickContext context) {
+        // Item frames on blocks broken by the entity are dropped from the captured changes
+        return true;
     }
 
     @Override
@@ -69,6 +69,12 @@ public void associateNeighborStateNotifier(T context, @Nullable BlockPos sourceP
         });
     }
 
+    @Override
+    public boolean requiresBlockCapturing(T context) {
+        // The notifier, and owner of placed blocks, are assigned from the captured changes
+        return context.getNotifier().isPresent();
+    }
+
     @Override
     public void postBlockTransactionApplication(BlockChange blockChange,
         Transaction<BlockSnapshot> snapshotTransaction, T context) {
@@ -36,6 +36,7 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
@@ -54,6 +55,7 @@ class NeighborNotificationState extends LocationBasedTickPhaseState<NeighborNoti
                     frame.addContext(EventContextKeys.NEIGHBOR_NOTIFY_SOURCE, context.notificationSnapshot);
                 }
             });
+    private final PhaseContextPool<NeighborNotificationContext> contextPool = new PhaseContextPool<>(() -> new NeighborNotificationContext(this));
 
     private final String name;
 
@@ -63,7 +65,7 @@ class NeighborNotificationState extends LocationBasedTickPhaseState<NeighborNoti
 
     @Override
     public NeighborNotificationContext createPhaseContext() {
-        return new NeighborNotificationContext(this)
+        return this.contextPool.acquire()
                 .addCaptures();
     }
 
@@ -55,6 +55,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
@@ -74,6 +75,7 @@ class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTic
             context.getSource(TileEntity.class)
                 .ifPresent(frame::pushCause)
         );
+    private final PhaseContextPool<TileEntityTickContext> contextPool = new PhaseContextPool<>(() -> new TileEntityTickContext(this));
 
     private String name;
 
@@ -83,7 +85,7 @@ class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTic
 
     @Override
     public TileEntityTickContext createPhaseContext() {
-        return new TileEntityTickContext(this)
+        return this.contextPool.acquire()
                 .addEntityCaptures()
                 .addEntityDropCaptures()
                 .addBlockCaptures();
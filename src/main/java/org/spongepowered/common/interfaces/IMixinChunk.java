@@ -41,13 +41,14 @@
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
+import org.spongepowered.common.util.ConcurrentShortSet;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -118,7 +119,9 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     boolean isQueuedForUnload();
 
-    CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type);
+    ConcurrentShortSet getQueuedLightingUpdates(EnumSkyBlock type);
+
+    LightUpdateBatch getLightUpdateBatch();
 
     void markChunkDirty();
 
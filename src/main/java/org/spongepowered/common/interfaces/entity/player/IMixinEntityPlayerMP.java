@@ -56,6 +56,8 @@ default boolean usesCustomClient() {
 
     void setVelocityOverride(@Nullable Vector3d velocity);
 
+    void setVelocityOverride(double x, double y, double z);
+
     void sendBlockChange(BlockPos pos, IBlockState state);
 
     MessageChannel getDeathMessageChannel();
@@ -24,10 +24,17 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.world.storage.AsyncChunkSerializer;
+import org.spongepowered.common.world.storage.ChunkWriteQueue;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +42,43 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    ChunkWriteQueue getWriteQueue();
+
+    /**
+     * Reads the upgraded data of the chunk at the given position, either
+     * from the chunks pending to be written or from its region file. May be
+     * called from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if the chunk does not exist
+     * @throws IOException If the region file could not be read
+     */
+    @Nullable
+    NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Creates the chunk at the given position from its data, as read by
+     * {@link #readChunkData(int, int)}.
+     *
+     * @param world The world of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param compound The chunk data
+     * @return The chunk, or null if the data is invalid
+     */
+    @Nullable
+    Chunk readChunk(World world, int x, int z, NBTTagCompound compound);
+
+    /**
+     * Gets the serializer encoding saved chunks off the server thread,
+     * if asynchronous chunk serialization is enabled.
+     *
+     * @return The chunk serializer, or null if disabled
+     */
+    @Nullable
+    default AsyncChunkSerializer getChunkSerializer() {
+        return null;
+    }
+
 }
@@ -44,6 +44,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.world.ExplosionCache;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -97,6 +98,35 @@ public interface IMixinWorldServer extends IMixinWorld {
 
     ExecutorService getLightingExecutor();
 
+    /**
+     * Gets the amount of asynchronous lighting updates of this world
+     * that are queued, but haven't been processed yet.
+     *
+     * @return The amount of queued lighting updates, 0 if async lighting is disabled
+     */
+    default int getQueuedLightingUpdateCount() {
+        return 0;
+    }
+
+    /**
+     * Gets the amount of scheduled block updates within the given chunk
+     * that are pending, but haven't been ticked yet.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The amount of pending block updates
+     */
+    int getPendingBlockUpdateCount(int chunkX, int chunkZ);
+
+    /**
+     * Gets the cache of explosion results of this world, if explosion
+     * caching is enabled.
+     *
+     * @return The explosion cache, or null if disabled
+     */
+    @Nullable
+    ExplosionCache getExplosionCache();
+
     WorldTimingsHandler getTimingsHandler();
 
     int getChunkGCTickInterval();
@@ -118,4 +148,10 @@ public interface IMixinWorldServer extends IMixinWorld {
     void spongeNotifyNeighborsWithoutObservers(BlockPos sourcePos, Block sourceBlock, boolean b);
 
     SpongeProxyBlockAccess getProxyAccess();
+
+    /**
+     * Runs the entity and tile entity activation checks of this tick ahead
+     * of the world being ticked, which then skips them.
+     */
+    void runActivationChecks();
 }
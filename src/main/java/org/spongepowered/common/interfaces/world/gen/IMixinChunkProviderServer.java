@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -51,4 +52,20 @@ public interface IMixinChunkProviderServer {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    IChunkLoader getChunkLoader();
+
+    /**
+     * Loads the chunk at the given position, reading it from the region file
+     * off the server thread if it is not loaded yet. Has to be called from
+     * the server thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether to generate the chunk if it does not exist
+     * @return The future of the chunk, completed on the server thread
+     */
+    CompletableFuture<Chunk> loadChunkAsync(int x, int z, boolean generate);
+
+    int getPendingChunkLoadCount();
 }
@@ -70,6 +70,7 @@
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.inventory.IMixinTrackedInventory;
 import org.spongepowered.common.item.inventory.adapter.impl.MinecraftInventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.SlotCollectionIterator;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.SlotAdapter;
@@ -81,6 +82,7 @@
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -145,6 +147,8 @@ public ItemStack slotClick(int slotId, int dragType, ClickType clickTypeIn, Enti
     @Nullable private PluginContainer plugin = null;
 
     private LinkedHashMap<IInventory, Set<Slot>> allInventories = new LinkedHashMap<>();
+    // The modification counts of the tracked inventories at the time their slots were last compared
+    private int[] slotModificationCounts = new int[0];
 
     /*
     Named specifically for sponge to avoid potential illegal access errors when a mod container
@@ -179,6 +183,9 @@ private void spongeInit() {
         this.allInventories.clear();
         this.inventorySlots.forEach(slot -> this.allInventories.computeIfAbsent(slot.inventory, (i) -> new HashSet<>()).add(slot));
 
+        this.slotModificationCounts = new int[this.inventorySlots.size()];
+        Arrays.fill(this.slotModificationCounts, -1);
+
     }
 
     @Override
@@ -232,6 +239,16 @@ public void detectAndSendChanges(boolean captureOnly) {
 
         for (int i = 0; i < this.inventorySlots.size(); ++i) {
             final Slot slot = this.inventorySlots.get(i);
+            // Sponge start - skip the slots of tracked inventories that weren't changed since they were last compared
+            int modificationCount = -1;
+            if (slot.inventory instanceof IMixinTrackedInventory && ((IMixinTrackedInventory) slot.inventory).isTrackingChanges()
+                    && i < this.slotModificationCounts.length) {
+                modificationCount = ((IMixinTrackedInventory) slot.inventory).getModificationCount();
+                if (modificationCount == this.slotModificationCounts[i]) {
+                    continue;
+                }
+            }
+            // Sponge end
             final ItemStack itemstack = slot.getStack();
             ItemStack itemstack1 = this.inventoryItemStacks.get(i);
 
@@ -280,6 +297,10 @@ public void detectAndSendChanges(boolean captureOnly) {
                     listener.sendSlotContents((Container) (Object) this, i, itemstack1);
                 }
             }
+            // Sponge - Only reached if the client is up to date
+            if (i < this.slotModificationCounts.length) {
+                this.slotModificationCounts[i] = modificationCount;
+            }
         }
         this.markClean();
     }
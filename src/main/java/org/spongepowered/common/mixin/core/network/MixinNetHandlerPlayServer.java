@@ -80,6 +80,7 @@
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.IntHashMap;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.text.ITextComponent;
@@ -125,7 +126,9 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.MovementEventsCategory;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.player.MovementEventCounters;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -193,7 +196,15 @@ public abstract class MixinNetHandlerPlayServer implements PlayerConnection, IMi
     // field_194402_f, but _f is time (which the ID just so happens to match).
     @Shadow private long field_194404_h;
     private boolean justTeleported = false;
-    @Nullable private Location<World> lastMoveLocation = null;
+    // The last location and rotation a movement event was thrown for, kept as raw
+    // coordinates to not create a location for every movement packet
+    @Nullable private World lastMoveWorld = null;
+    private double lastMoveX;
+    private double lastMoveY;
+    private double lastMoveZ;
+    private float lastMovePitch;
+    private float lastMoveYaw;
+    private int lastMoveEventTick = -1;
 
     private final AtomicInteger numResourcePacksInTransit = new AtomicInteger();
     @Nullable private ResourcePack lastReceivedPack, lastAcceptedPack;
@@ -459,26 +470,46 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
             }
 
             // Sponge Start - Movement event
-            Player player = (Player) this.player;
-            IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
-            Vector3d fromRotation = player.getRotation();
+            // The movement is compared on the raw coordinates, locations and transforms are only created
+            // if an event is actually thrown
+            final IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
+            final World currentWorld = (World) this.player.world;
+            final float currentPitch = this.player.rotationPitch;
+            final float currentYaw = this.player.rotationYaw;
 
             // If Sponge used the player's current location, the delta might never be triggered which could be exploited
-            Location<World> fromLocation = player.getLocation();
-            if (this.lastMoveLocation != null) {
-                fromLocation = this.lastMoveLocation;
+            World fromWorld = currentWorld;
+            double fromX = this.player.posX;
+            double fromY = this.player.posY;
+            double fromZ = this.player.posZ;
+            float fromPitch = currentPitch;
+            float fromYaw = currentYaw;
+            if (this.lastMoveWorld != null) {
+                fromWorld = this.lastMoveWorld;
+                fromX = this.lastMoveX;
+                fromY = this.lastMoveY;
+                fromZ = this.lastMoveZ;
+                // Only coalesced events span the rotations of multiple packets
+                if (SpongeImpl.getGlobalConfig().getConfig().getMovementEvents().getCoalescing() != MovementEventsCategory.Coalescing.NONE) {
+                    fromPitch = this.lastMovePitch;
+                    fromYaw = this.lastMoveYaw;
+                }
             }
 
-            Location<World> toLocation = new Location<>(player.getWorld(), packetIn.x, packetIn.y, packetIn.z);
-            Vector3d toRotation = new Vector3d(packetIn.pitch, packetIn.yaw, 0);
+            double toX = packetIn.x;
+            double toY = packetIn.y;
+            double toZ = packetIn.z;
+            float toPitch = packetIn.pitch;
+            float toYaw = packetIn.yaw;
 
             // Minecraft does the same with rotation when it's only a positional update
             boolean positionOnly = packetIn.moving && !packetIn.rotating;
             if (positionOnly) {
-                // Correct the new rotation to match the old rotation
-                toRotation = fromRotation;
+                // Correct the new rotation to match the current rotation
+                toPitch = currentPitch;
+                toYaw = currentYaw;
 
-                positionOnly = !toLocation.getPosition().equals(fromLocation.getPosition()) && ShouldFire.MOVE_ENTITY_EVENT_POSITION;
+                positionOnly = (toX != fromX || toY != fromY || toZ != fromZ) && ShouldFire.MOVE_ENTITY_EVENT_POSITION;
             }
 
             // Minecraft sends a 0, 0, 0 position when rotation only update occurs, this needs to be recognized and corrected
@@ -487,60 +518,88 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
             if (rotationOnly) {
                 // Correct the to location so it's not misrepresented to plugins, only when player rotates without moving
                 // In this case it's only a rotation update, which isn't related to the to location
-                fromLocation = player.getLocation();
-                toLocation = fromLocation;
+                fromWorld = currentWorld;
+                toX = fromX = this.player.posX;
+                toY = fromY = this.player.posY;
+                toZ = fromZ = this.player.posZ;
 
                 rotationOnly = ShouldFire.ROTATE_ENTITY_EVENT;
             }
 
             if (packetIn.moving && packetIn.rotating) {
-                positionOnly = !toLocation.getPosition().equals(fromLocation.getPosition()) && ShouldFire.MOVE_ENTITY_EVENT_POSITION;
+                positionOnly = (toX != fromX || toY != fromY || toZ != fromZ) && ShouldFire.MOVE_ENTITY_EVENT_POSITION;
                 rotationOnly = ShouldFire.ROTATE_ENTITY_EVENT;
             }
 
-            mixinPlayer.setVelocityOverride(toLocation.getPosition().sub(fromLocation.getPosition()));
+            final double deltaX = toX - fromX;
+            final double deltaY = toY - fromY;
+            final double deltaZ = toZ - fromZ;
+            mixinPlayer.setVelocityOverride(deltaX, deltaY, deltaZ);
 
-            double deltaSquared = toLocation.getPosition().distanceSquared(fromLocation.getPosition());
-            double deltaAngleSquared = fromRotation.distanceSquared(toRotation);
+            final double deltaSquared = deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+            final double deltaPitch = (double) toPitch - fromPitch;
+            final double deltaYaw = (double) toYaw - fromYaw;
+            final double deltaAngleSquared = deltaPitch * deltaPitch + deltaYaw * deltaYaw;
 
             // These magic numbers are sad but help prevent excessive lag from this event.
             // eventually it would be nice to not have them
             if (deltaSquared > ((1f / 16) * (1f / 16)) || deltaAngleSquared > (.15f * .15f)) {
-                Transform<World> fromTransform = player.getTransform().setLocation(fromLocation).setRotation(fromRotation);
-                Transform<World> toTransform = player.getTransform().setLocation(toLocation).setRotation(toRotation);
-                Transform<World> originalToTransform = toTransform;
+                boolean suppressed = false;
                 if (rotationOnly || positionOnly) {
-                    Event event;
-                    if (rotationOnly) {
-                        event = SpongeEventFactory.createRotateEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
+                    if (this.isMoveEventCoalesced(rotationOnly, fromX, fromY, fromZ, toX, toY, toZ)) {
+                        // The movement is folded into the next event, which will be thrown from the
+                        // last location an event was thrown for
+                        MovementEventCounters.onSuppressed();
+                        suppressed = true;
                     } else {
-                        event = SpongeEventFactory.createMoveEntityEventPosition(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
-                    }
-                    if (SpongeImpl.postEvent(event)) {
-                        mixinPlayer.setLocationAndAngles(fromTransform);
-                        this.lastMoveLocation = fromLocation;
-                        mixinPlayer.setVelocityOverride(null);
-                        return true;
-                    }
-                    if (rotationOnly) {
-                        toTransform = ((RotateEntityEvent) event).getToTransform();
-                    } else {
-                        toTransform = ((MoveEntityEvent) event).getToTransform();
+                        MovementEventCounters.onFired();
+                        this.lastMoveEventTick = SpongeImpl.getServer().getTickCounter();
+
+                        final Player player = (Player) this.player;
+                        final Vector3d scale = player.getScale();
+                        final Transform<World> fromTransform = new Transform<>(fromWorld, new Vector3d(fromX, fromY, fromZ),
+                                new Vector3d(fromPitch, fromYaw, 0), scale);
+                        final Transform<World> originalToTransform = new Transform<>(currentWorld, new Vector3d(toX, toY, toZ),
+                                new Vector3d(toPitch, toYaw, 0), scale);
+                        final Transform<World> toTransform;
+                        final Event event;
+                        if (rotationOnly) {
+                            event = SpongeEventFactory.createRotateEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform,
+                                    originalToTransform, player);
+                        } else {
+                            event = SpongeEventFactory.createMoveEntityEventPosition(Sponge.getCauseStackManager().getCurrentCause(),
+                                    fromTransform, originalToTransform, player);
+                        }
+                        if (SpongeImpl.postEvent(event)) {
+                            mixinPlayer.setLocationAndAngles(fromTransform);
+                            this.setLastMove(fromWorld, fromX, fromY, fromZ, fromPitch, fromYaw);
+                            mixinPlayer.setVelocityOverride(null);
+                            return true;
+                        }
+                        if (rotationOnly) {
+                            toTransform = ((RotateEntityEvent) event).getToTransform();
+                        } else {
+                            toTransform = ((MoveEntityEvent) event).getToTransform();
+                        }
+                        if (!toTransform.equals(originalToTransform)) {
+                            mixinPlayer.setLocationAndAngles(toTransform);
+                            this.setLastMove(toTransform.getExtent(), toTransform.getPosition().getX(), toTransform.getPosition().getY(),
+                                    toTransform.getPosition().getZ(), (float) toTransform.getPitch(), (float) toTransform.getYaw());
+                            mixinPlayer.setVelocityOverride(null);
+                            return true;
+                        }
                     }
                 }
-                if (!toTransform.equals(originalToTransform)) {
-                    mixinPlayer.setLocationAndAngles(toTransform);
-                    this.lastMoveLocation = toTransform.getLocation();
-                    mixinPlayer.setVelocityOverride(null);
-                    return true;
-                } else if (!fromTransform.getLocation().equals(player.getLocation()) && this.justTeleported) {
-                    this.lastMoveLocation = player.getLocation();
+                if (this.justTeleported && (fromWorld != currentWorld || fromX != this.player.posX || fromY != this.player.posY
+                        || fromZ != this.player.posZ)) {
+                    this.setLastMove(currentWorld, this.player.posX, this.player.posY, this.player.posZ, this.player.rotationPitch,
+                            this.player.rotationYaw);
                     // Prevent teleports during the move event from causing odd behaviors
                     this.justTeleported = false;
                     mixinPlayer.setVelocityOverride(null);
                     return true;
-                } else {
-                    this.lastMoveLocation = toTransform.getLocation();
+                } else if (!suppressed) {
+                    this.setLastMove(currentWorld, toX, toY, toZ, toPitch, toYaw);
                 }
                 this.resendLatestResourcePackRequest();
             }
@@ -548,6 +607,34 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
         return playerMP.queuedEndExit;
     }
 
+    /**
+     * Gets whether the movement event that would be thrown for the current
+     * movement packet is folded into a later event by the configured
+     * {@link MovementEventsCategory.Coalescing} mode.
+     */
+    private boolean isMoveEventCoalesced(boolean rotation, double fromX, double fromY, double fromZ, double toX, double toY, double toZ) {
+        switch (SpongeImpl.getGlobalConfig().getConfig().getMovementEvents().getCoalescing()) {
+            case TICK:
+                return this.lastMoveEventTick == SpongeImpl.getServer().getTickCounter();
+            case BLOCK:
+                return !rotation
+                        && MathHelper.floor(fromX) == MathHelper.floor(toX)
+                        && MathHelper.floor(fromY) == MathHelper.floor(toY)
+                        && MathHelper.floor(fromZ) == MathHelper.floor(toZ);
+            default:
+                return false;
+        }
+    }
+
+    private void setLastMove(World world, double x, double y, double z, float pitch, float yaw) {
+        this.lastMoveWorld = world;
+        this.lastMoveX = x;
+        this.lastMoveY = y;
+        this.lastMoveZ = z;
+        this.lastMovePitch = pitch;
+        this.lastMoveYaw = yaw;
+    }
+
     /**
      * @author gabizou - June 22nd, 2016
      * @author blood - May 6th, 2017
@@ -921,8 +1008,13 @@ public void processUseEntity(CPacketUseEntity packetIn) {
     }
 
     @Override
-    public void setLastMoveLocation(Location<World> location) {
-        this.lastMoveLocation = location;
+    public void setLastMoveLocation(@Nullable Location<World> location) {
+        if (location == null) {
+            this.lastMoveWorld = null;
+        } else {
+            this.setLastMove(location.getExtent(), location.getX(), location.getY(), location.getZ(), this.player.rotationPitch,
+                    this.player.rotationYaw);
+        }
     }
 
     @Inject(method = "handleResourcePackStatus(Lnet/minecraft/network/play/client/CPacketResourcePackStatus;)V", at = @At("HEAD"))
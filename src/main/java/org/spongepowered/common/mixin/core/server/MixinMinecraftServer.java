@@ -111,8 +111,10 @@
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldActivation;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
 import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
@@ -699,6 +701,11 @@ public void onStopServer(CallbackInfo ci) {
     }
 
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void onStopServerClosePlayerData(CallbackInfo ci) {
+        SpongePlayerDataHandler.close();
+    }
+
     @Override
     public int getPlayerIdleTimeout() {
         return this.getMaxPlayerIdleMinutes();
@@ -755,6 +762,13 @@ private Object onRun(FutureTask<?> task, Logger logger) {
         return SpongeImplHooks.onUtilRunTask(task, logger);
     }
 
+    @Inject(method = "updateTimeLightAndEntities", at = @At(value = "CONSTANT", args = "stringValue=levels"))
+    private void onTickWorlds(CallbackInfo ci) {
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelWorldActivation()) {
+            ParallelWorldActivation.activateWorlds();
+        }
+    }
+
     @Override
     public DataFixer getDataFixer() {
         return this.dataFixer;
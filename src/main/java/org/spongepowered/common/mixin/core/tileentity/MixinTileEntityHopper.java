@@ -27,13 +27,16 @@
 import static org.spongepowered.api.data.DataQuery.of;
 import static org.spongepowered.common.event.SpongeCommonEventFactory.toInventory;
 
+import net.minecraft.block.BlockHopper;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.IHopper;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.tileentity.TileEntityHopper;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.block.tileentity.carrier.Hopper;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.manipulator.DataManipulator;
@@ -48,13 +51,16 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinInventory;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntityHopper;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.inventory.IMixinTrackedInventory;
 import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.SlotProvider;
@@ -72,7 +78,7 @@
 @SuppressWarnings("rawtypes")
 @NonnullByDefault
 @Mixin(TileEntityHopper.class)
-public abstract class MixinTileEntityHopper extends MixinTileEntityLockableLoot implements Hopper, IMixinInventory {
+public abstract class MixinTileEntityHopper extends MixinTileEntityLockableLoot implements Hopper, IMixinInventory, IMixinTileEntityHopper {
 
     @Shadow public int transferCooldown;
     @Shadow private static ItemStack insertStack(IInventory source, IInventory destination, ItemStack stack, int index, EnumFacing direction) {
@@ -87,9 +93,20 @@ public abstract class MixinTileEntityHopper extends MixinTileEntityLockableLoot
     }
 
     @Shadow protected abstract boolean isInventoryFull(IInventory inventoryIn, EnumFacing side);
+    @Shadow protected abstract IInventory getInventoryForHopperTransfer();
 
     public List<SlotTransaction> capturedTransactions = new ArrayList<>();
 
+    // Neighbor inventories, only cached while they are loaded tile entities
+    @Nullable private IInventory cachedSourceInventory;
+    @Nullable private IInventory cachedOutputInventory;
+    @Nullable private EnumFacing cachedOutputFacing;
+    // The last source found empty and the last output found full, with their modification counts at that time
+    @Nullable private IInventory knownEmptySource;
+    private int knownEmptySourceCount;
+    @Nullable private IInventory knownFullOutput;
+    private int knownFullOutputCount;
+
     @Override
     public List<SlotTransaction> getCapturedTransactions() {
         return this.capturedTransactions;
@@ -138,11 +155,78 @@ public void supplyVanillaManipulators(List<DataManipulator<?, ?>> manipulators)
         }
     }
 
+    // Cache neighbor inventories
+
+    @Redirect(method = "transferItemsOut", at = @At(value = "INVOKE",
+              target = "Lnet/minecraft/tileentity/TileEntityHopper;getInventoryForHopperTransfer()Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private IInventory onGetInventoryForHopperTransfer(TileEntityHopper hopper) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useHopperNeighborCache()) {
+            return this.getInventoryForHopperTransfer();
+        }
+        final EnumFacing facing = BlockHopper.getFacing(hopper.getBlockMetadata());
+        if (this.cachedOutputInventory != null && this.cachedOutputFacing == facing && isLoadedTileEntity(this.cachedOutputInventory)) {
+            return this.cachedOutputInventory;
+        }
+        final IInventory inventory = this.getInventoryForHopperTransfer();
+        this.cachedOutputInventory = isCacheable(inventory) ? inventory : null;
+        this.cachedOutputFacing = facing;
+        return inventory;
+    }
+
+    @Redirect(method = "pullItems", at = @At(value = "INVOKE",
+              target = "Lnet/minecraft/tileentity/TileEntityHopper;getSourceInventory(Lnet/minecraft/tileentity/IHopper;)Lnet/minecraft/inventory/IInventory;"))
+    @Nullable
+    private static IInventory onGetSourceInventory(IHopper hopper) {
+        if (hopper instanceof IMixinTileEntityHopper && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useHopperNeighborCache()) {
+            return ((IMixinTileEntityHopper) hopper).getCachedSourceInventory();
+        }
+        return getSourceInventory(hopper);
+    }
+
+    @Nullable
+    @Override
+    public IInventory getCachedSourceInventory() {
+        if (this.cachedSourceInventory != null && isLoadedTileEntity(this.cachedSourceInventory)) {
+            return this.cachedSourceInventory;
+        }
+        final IInventory inventory = getSourceInventory((IHopper) this);
+        this.cachedSourceInventory = isCacheable(inventory) ? inventory : null;
+        return inventory;
+    }
+
+    /**
+     * Only tile entities are cached, vanilla looks for inventory entities
+     * at the position if there is none. Chests aren't cached either, as the
+     * inventory depends on the adjacent chests and whether the chest is blocked.
+     * A cached tile entity remains valid until it is removed, which also
+     * covers it being replaced by a neighbor change.
+     */
+    private static boolean isCacheable(@Nullable IInventory inventory) {
+        return inventory instanceof TileEntity && !(inventory instanceof TileEntityChest);
+    }
+
+    private static boolean isLoadedTileEntity(IInventory inventory) {
+        final TileEntity tileEntity = (TileEntity) inventory;
+        if (tileEntity.isInvalid()) {
+            return false;
+        }
+        final IMixinChunk chunk = ((IMixinTileEntity) tileEntity).getActiveChunk();
+        return chunk != null && ((Chunk) chunk).isLoaded();
+    }
+
     // Call PreEvents
 
     @Redirect(method = "pullItems", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;isInventoryEmpty(Lnet/minecraft/inventory/IInventory;Lnet/minecraft/util/EnumFacing;)Z"))
     private static boolean onIsInventoryEmpty(IInventory inventory, EnumFacing facing, IHopper hopper) {
+        final IMixinTileEntityHopper mixinHopper = hopper instanceof IMixinTileEntityHopper ? (IMixinTileEntityHopper) hopper : null;
+        if (mixinHopper != null && mixinHopper.isKnownEmpty(inventory)) {
+            return true;
+        }
         boolean result = isInventoryEmpty(inventory, facing);
+        if (result && mixinHopper != null) {
+            mixinHopper.setKnownEmpty(inventory);
+        }
         if (result || !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
             return result;
         }
@@ -152,13 +236,42 @@ private static boolean onIsInventoryEmpty(IInventory inventory, EnumFacing facin
     @Redirect(method = "transferItemsOut", at = @At(value = "INVOKE",
               target = "Lnet/minecraft/tileentity/TileEntityHopper;isInventoryFull(Lnet/minecraft/inventory/IInventory;Lnet/minecraft/util/EnumFacing;)Z"))
     private boolean onIsInventoryFull(TileEntityHopper hopper, IInventory inventory, EnumFacing enumfacing) {
+        if (inventory == this.knownFullOutput && isUnchanged(inventory, this.knownFullOutputCount)) {
+            return true;
+        }
         boolean result = this.isInventoryFull(inventory, enumfacing);
+        if (result && inventory instanceof IMixinTrackedInventory) {
+            this.knownFullOutput = inventory;
+            this.knownFullOutputCount = ((IMixinTrackedInventory) inventory).getModificationCount();
+        }
         if (result || !ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
             return result;
         }
         return SpongeCommonEventFactory.callTransferPre(toInventory(hopper), toInventory(inventory)).isCancelled();
     }
 
+    @Override
+    public boolean isKnownEmpty(IInventory source) {
+        return source == this.knownEmptySource && isUnchanged(source, this.knownEmptySourceCount);
+    }
+
+    @Override
+    public void setKnownEmpty(IInventory source) {
+        if (source instanceof IMixinTrackedInventory) {
+            this.knownEmptySource = source;
+            this.knownEmptySourceCount = ((IMixinTrackedInventory) source).getModificationCount();
+        }
+    }
+
+    /**
+     * Gets whether the given inventory was not changed since it had the
+     * given modification count, which requires its changes to be tracked.
+     */
+    private static boolean isUnchanged(IInventory inventory, int modificationCount) {
+        return inventory instanceof IMixinTrackedInventory && ((IMixinTrackedInventory) inventory).isTrackingChanges()
+                && ((IMixinTrackedInventory) inventory).getModificationCount() == modificationCount;
+    }
+
     // Capture Transactions
 
     @Redirect(method = "putStackInInventoryAllSlots", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;insertStack(Lnet/minecraft/inventory/IInventory;Lnet/minecraft/inventory/IInventory;Lnet/minecraft/item/ItemStack;ILnet/minecraft/util/EnumFacing;)Lnet/minecraft/item/ItemStack;"))
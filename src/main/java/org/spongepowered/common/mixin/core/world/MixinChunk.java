@@ -118,6 +118,7 @@
 import org.spongepowered.common.registry.type.world.BlockChangeFlagRegistryModule;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionCache;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
@@ -302,6 +303,9 @@ public void onLoadReturn(CallbackInfo ci) {
             }
         }
 
+        // Sponge - cached explosion results read the blocks of this chunk as air while it was not loaded
+        this.clearExplosionCache();
+
         if (ShouldFire.LOAD_CHUNK_EVENT) {
             SpongeImpl.postEvent(SpongeEventFactory.createLoadChunkEvent(Sponge.getCauseStackManager().getCurrentCause(), (Chunk) this));
         }
@@ -325,12 +329,24 @@ public void onUnload(CallbackInfo ci) {
             }
         }
 
+        // Sponge - the blocks of this chunk are read as air once it is unloaded
+        this.clearExplosionCache();
+
         if (!this.world.isRemote) {
             SpongeImpl.postEvent(SpongeEventFactory.createUnloadChunkEvent(Sponge.getCauseStackManager().getCurrentCause(), (Chunk) this));
             SpongeHooks.logChunkUnload(this.world, this.chunkPos);
         }
     }
 
+    private void clearExplosionCache() {
+        if (this.world instanceof IMixinWorldServer) {
+            final ExplosionCache explosionCache = ((IMixinWorldServer) this.world).getExplosionCache();
+            if (explosionCache != null) {
+                explosionCache.clear();
+            }
+        }
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.uuid;
@@ -619,6 +635,13 @@ public IBlockState setBlockState(BlockPos pos, IBlockState state) {
     @Override
     @Nullable
     public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, BlockChangeFlag flag) {
+        // Sponge - cached explosion results may depend on the changing block
+        if (this.world instanceof IMixinWorldServer) {
+            final ExplosionCache explosionCache = ((IMixinWorldServer) this.world).getExplosionCache();
+            if (explosionCache != null) {
+                explosionCache.onBlockChange(pos);
+            }
+        }
         int xPos = pos.getX() & 15;
         int yPos = pos.getY();
         int zPos = pos.getZ() & 15;
@@ -666,7 +689,9 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
         final TileEntity existing = this.getTileEntity(pos, EnumCreateEntityType.CHECK);
         final PhaseContext<?> peek = isFake ? null : PhaseTracker.getInstance().getCurrentContext();
         final IPhaseState state = isFake ? null : peek.state;
-        final SpongeBlockSnapshot snapshot = (isFake || (!ShouldFire.CHANGE_BLOCK_EVENT || !state.shouldCaptureBlockChangeOrSkip(peek, pos, currentState, newState, flag))) ? null : createSpongeBlockSnapshot(currentState, currentState, pos, flag, existing);
+        // Skip snapshots if no listener could observe the ChangeBlockEvents thrown for the captured change
+        final boolean capturesBlockChanges = !isFake && PhaseTracker.capturesBlockChanges(state, peek);
+        final SpongeBlockSnapshot snapshot = (!capturesBlockChanges || !state.shouldCaptureBlockChangeOrSkip(peek, pos, currentState, newState, flag)) ? null : createSpongeBlockSnapshot(currentState, currentState, pos, flag, existing);
         final BlockTransaction.ChangeBlock transaction;
         final IMixinWorldServer mixinWorld = isFake ? null : (IMixinWorldServer) this.world;
 
@@ -681,7 +706,7 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
             // Sponge - Redirect phase checks to use isFake in the event we have mods worlds doing silly things....
             // i.e. fake worlds. Likewise, avoid creating unnecessary snapshots/transactions
             // or triggering unprocessed captures when there are no events being thrown.
-            if (!isFake && ShouldFire.CHANGE_BLOCK_EVENT && snapshot != null) {
+            if (capturesBlockChanges && snapshot != null) {
 
                 // Mark the tile entity as captured so when it is being removed during the chunk setting, it won't be
                 // re-captured again.
@@ -778,7 +803,7 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
 
         // Sponge Start - Handle block physics only if we're actually the server world
         if (!isFake && currentBlock != newBlock) {
-            final boolean isBulkCapturing = ShouldFire.CHANGE_BLOCK_EVENT && state.doesBulkBlockCapture(peek);
+            final boolean isBulkCapturing = capturesBlockChanges && state.doesBulkBlockCapture(peek);
             // Reset the proxy access or add to the proxy state during processing.
             ((IMixinWorldServer) this.world).getProxyAccess().onChunkChanged(pos, newState);
             // Sponge start - Ignore block activations during block placement captures unless it's
@@ -895,7 +920,7 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockS
         builder.blockState((BlockState) state)
             .extendedState((BlockState) extended)
             .worldId(this.sponge_world.getUniqueId())
-            .position(VecHelper.toVector3i(pos));
+            .position(pos.toImmutable());
         Optional<UUID> creator = getBlockOwnerUUID(pos);
         Optional<UUID> notifier = getBlockNotifierUUID(pos);
         creator.ifPresent(builder::creator);
@@ -910,7 +935,7 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockS
             // Some mods like OpenComputers assert if attempting to save robot while moving
             try {
                 existing.writeToNBT(nbt);
-                builder.unsafeNbt(nbt);
+                builder.tileNbt(nbt);
             }
             catch(Throwable t) {
                 // ignore
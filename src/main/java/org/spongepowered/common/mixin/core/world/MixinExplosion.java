@@ -70,6 +70,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -121,8 +122,13 @@ private void onConstructed(net.minecraft.world.World world, Entity entity, doubl
     @Final
     @Overwrite
     public void doExplosionA() {
-        // Sponge Start - If the explosion should not break blocks, don't bother calculating it
-        if (this.shouldBreakBlocks) {
+        // Sponge Start - Use the cached results of this tick if enabled
+        final ExplosionCache explosionCache = this.world instanceof IMixinWorldServer ? ((IMixinWorldServer) this.world).getExplosionCache() : null;
+        // If the explosion should not break blocks, don't bother calculating it
+        if (this.shouldBreakBlocks && explosionCache != null && ExplosionCache.canCacheAffectedBlocks(this.exploder)) {
+            explosionCache.getAffectedBlocks(this.world, (net.minecraft.world.Explosion) (Object) this, this.exploder, this.x, this.y, this.z,
+                    this.size, this.affectedBlockPositions);
+        } else if (this.shouldBreakBlocks) {
             // Sponge End
             Set<BlockPos> set = Sets.<BlockPos>newHashSet();
             int i = 16;
@@ -243,7 +249,10 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge - use the cached density if enabled
+                        double d14 = (double) (explosionCache != null
+                                               ? explosionCache.getBlockDensity(this.world, vec3d, entity.getEntityBoundingBox())
+                                               : this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox()));
                         double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
@@ -198,6 +198,8 @@ public abstract class MixinWorld implements World, IMixinWorld {
     protected boolean processingExplosion = false;
     protected boolean isDefinitelyFake = false;
     protected boolean hasChecked = false;
+    // Whether the activation checks of this tick have already been run by the parallel world activation
+    protected boolean activationChecked = false;
     protected SpongeDimension spongeDimensionWrapper;
 
     // @formatter:off
@@ -1699,7 +1701,9 @@ public void updateEntities() {
         this.stopEntityRemovalTiming(); // Sponge
         this.tickPlayers();
         this.profiler.endStartSection("regular");
-        this.entityActivationCheck();
+        if (!this.activationChecked) {
+            this.entityActivationCheck();
+        }
 
         for (int i1 = 0; i1 < this.loadedEntityList.size(); ++i1) {
             net.minecraft.entity.Entity entity2 = this.loadedEntityList.get(i1);
@@ -1757,7 +1761,10 @@ public void updateEntities() {
         }
 
          this.profiler.endStartSection("blockEntities");
-        spongeTileEntityActivation();
+        if (!this.activationChecked) {
+            spongeTileEntityActivation();
+        }
+        this.activationChecked = false;
         this.processingLoadedTiles = true;
         Iterator<net.minecraft.tileentity.TileEntity> iterator = this.tickableTileEntities.iterator();
 
@@ -196,6 +196,8 @@
 import org.spongepowered.common.util.NonNullArrayList;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionCache;
+import org.spongepowered.common.world.ScheduledBlockUpdateSet;
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.WorldUtil;
@@ -251,9 +253,10 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private boolean weatherIceAndSnowEnabled = true;
     private int dimensionId;
     @Nullable private NextTickListEntry tmpScheduledObj;
+    @Nullable private ExplosionCache explosionCache;
 
     @Shadow @Final private MinecraftServer server;
-    @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
+    @Shadow @Final @Mutable private Set<NextTickListEntry> pendingTickListEntriesHashSet = new ScheduledBlockUpdateSet();
     @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
     @Shadow @Final private PlayerChunkMap playerChunkMap;
     @Shadow @Final @Mutable private Teleporter worldTeleporter;
@@ -319,6 +322,9 @@ private void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Wor
         this.weatherIceAndSnowEnabled = this.getWorldConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getWorldConfig().getConfig().getWorld().getWeatherThunder();
         this.updateEntityTick = 0;
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useExplosionCache()) {
+            this.explosionCache = new ExplosionCache();
+        }
         this.setMemoryViewDistance(this.chooseViewDistanceValue(this.getWorldConfig().getConfig().getWorld().getViewDistance()));
     }
 
@@ -851,8 +857,16 @@ public ScheduledBlockUpdate addScheduledUpdate(int x, int y, int z, int priority
     @Override
     public void removeScheduledUpdate(int x, int y, int z, ScheduledBlockUpdate update) {
         // Note: Ignores position argument
-        this.pendingTickListEntriesHashSet.remove(update);
-        this.pendingTickListEntriesTreeSet.remove(update);
+        final NextTickListEntry entry = ((ScheduledBlockUpdateSet) this.pendingTickListEntriesHashSet).getHeld((NextTickListEntry) update);
+        if (entry != null) {
+            this.pendingTickListEntriesHashSet.remove(entry);
+            this.pendingTickListEntriesTreeSet.remove(entry);
+        }
+    }
+
+    @Override
+    public int getPendingBlockUpdateCount(int chunkX, int chunkZ) {
+        return ((ScheduledBlockUpdateSet) this.pendingTickListEntriesHashSet).getChunkCount(chunkX, chunkZ);
     }
 
     /**
@@ -1009,7 +1023,7 @@ protected net.minecraft.tileentity.TileEntity getTileEntityForRemoval(World this
         final IPhaseState currentState = tracker.getCurrentState();
         final PhaseContext<?> currentContext = tracker.getCurrentContext();
         // More fast checks - bulk block capture is normally faster to be false than checking tile entity changes (certain block ticks don't capture changes)
-        if (!ShouldFire.CHANGE_BLOCK_EVENT || !currentState.doesBulkBlockCapture(currentContext) || !currentState.tracksTileEntityChanges(currentContext)) {
+        if (!PhaseTracker.capturesBlockChanges(currentState, currentContext) || !currentState.doesBulkBlockCapture(currentContext) || !currentState.tracksTileEntityChanges(currentContext)) {
             return tileEntity;
         }
 
@@ -1087,7 +1101,7 @@ protected boolean onSetTileEntityForCapture(net.minecraft.tileentity.TileEntity
             return true;
         }
         // More fast checks - bulk block capture is normally faster to be false than checking tile entity changes (certain block ticks don't capture changes)
-        if (!ShouldFire.CHANGE_BLOCK_EVENT || !currentState.doesBulkBlockCapture(currentContext) || !currentState.tracksTileEntityChanges(currentContext)) {
+        if (!PhaseTracker.capturesBlockChanges(currentState, currentContext) || !currentState.doesBulkBlockCapture(currentContext) || !currentState.tracksTileEntityChanges(currentContext)) {
             return newTile.isInvalid();
         }
         if (!mixinTile.isCaptured()) {
@@ -1247,15 +1261,9 @@ private int onGetDimensionIdForBlockEvents(DimensionType dimensionType) {
     }
 
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
-        ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
-            }
-        }
-        return builder.build();
+        return (Collection) ((ScheduledBlockUpdateSet) this.pendingTickListEntriesHashSet).get(x, y, z);
     }
 
 
@@ -1963,7 +1971,7 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
         this.builder.blockState((BlockState) state)
                 .extendedState((BlockState) extended)
                 .worldId(this.getUniqueId())
-                .position(VecHelper.toVector3i(pos));
+                .position(pos.toImmutable());
         Optional<UUID> creator = getCreator(pos.getX(), pos.getY(), pos.getZ());
         Optional<UUID> notifier = getNotifier(pos.getX(), pos.getY(), pos.getZ());
         if (creator.isPresent()) {
@@ -1985,7 +1993,7 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
                 // Some mods like OpenComputers assert if attempting to save robot while moving
                 try {
                     tileEntity.writeToNBT(nbt);
-                    this.builder.unsafeNbt(nbt);
+                    this.builder.tileNbt(nbt);
                 }
                 catch(Throwable t) {
                     // ignore
@@ -2003,13 +2011,13 @@ public SpongeBlockSnapshot createSpongeSnapshotForTileEntity(IBlockState state,
         this.builder.blockState((BlockState) state)
             .extendedState((BlockState) state)
             .worldId(this.getUniqueId())
-            .position(VecHelper.toVector3i(pos));
+            .position(pos.toImmutable());
         if (tileEntity != null) { // Store the information of the tile entity onto the snapshot
             NBTTagCompound nbt = new NBTTagCompound();
             // Some mods like OpenComputers assert if attempting to save robot while moving
             try {
                 tileEntity.writeToNBT(nbt);
-                this.builder.unsafeNbt(nbt);
+                this.builder.tileNbt(nbt);
             }
             catch(Throwable t) {
                 // ignore
@@ -2057,6 +2065,13 @@ public SpongeProxyBlockAccess getProxyAccess() {
         return this.proxyBlockAccess;
     }
 
+    @Override
+    public void runActivationChecks() {
+        this.entityActivationCheck();
+        this.spongeTileEntityActivation();
+        this.activationChecked = true;
+    }
+
     /**
      * @author gabizou - August 4th, 2016
      * @author blood - May 11th, 2017 - Forces chunk requests if TE is ticking.
@@ -2440,6 +2455,13 @@ public void endPendingTileEntities() {
         TimingHistory.tileEntityTicks += this.loadedTileEntityList.size();
     }
 
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void onTickClearExplosionCache(CallbackInfo ci) {
+        if (this.explosionCache != null) {
+            this.explosionCache.clear();
+        }
+    }
+
     @Inject(method = "tick", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=tickPending") )
     private void onBeginTickBlockUpdate(CallbackInfo ci) {
         this.timings.scheduledBlocks.startTiming();
@@ -2503,6 +2525,12 @@ private void onTickUpdatesTickingEnd(CallbackInfoReturnable<Boolean> cir) {
         this.timings.scheduledBlocksTicking.stopTiming();
     }
 
+    @Nullable
+    @Override
+    public ExplosionCache getExplosionCache() {
+        return this.explosionCache;
+    }
+
     @Override
     public WorldTimingsHandler getTimingsHandler() {
         return this.timings;
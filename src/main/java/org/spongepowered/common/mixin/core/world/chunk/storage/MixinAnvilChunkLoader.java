@@ -28,13 +28,17 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
@@ -66,19 +70,28 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
-import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.AsyncChunkSerializer;
+import org.spongepowered.common.world.storage.ChunkWriteQueue;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
-    private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
+    private static final int MAX_WRITE_BATCH_SIZE = 32;
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final ChunkWriteQueue writeQueue = new ChunkWriteQueue();
     private final Object lock = new Object();
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
@@ -87,10 +100,10 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
+    @Shadow @Final private DataFixer fixer;
     @Shadow private boolean flushing;
 
-    @Shadow
-    public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
@@ -219,6 +232,41 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
     }
 
+    @Override
+    public ChunkWriteQueue getWriteQueue() {
+        return this.writeQueue;
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        final ChunkPos pos = new ChunkPos(x, z);
+        final AsyncChunkSerializer serializer = this.getChunkSerializer();
+        if (serializer != null) {
+            serializer.await(pos);
+        }
+        final NBTTagCompound compound = this.chunksToSave.get(pos);
+        if (compound != null) {
+            return compound;
+        }
+        try (DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z)) {
+            if (stream == null) {
+                return null;
+            }
+            return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+        }
+    }
+
+    @Nullable
+    @Override
+    public Chunk readChunk(World world, int x, int z, NBTTagCompound compound) {
+        final Chunk chunk = this.checkedReadChunkFromNBT(world, x, z, compound);
+        if (chunk != null) {
+            SpongeImplHooks.loadChunkEntities((AnvilChunkLoader) (Object) this, world, compound, chunk);
+        }
+        return chunk;
+    }
+
     /**
      * @author aikar - February 19th, 2017
      * @reason Chunk queue improvements.
@@ -231,7 +279,8 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
         synchronized (this.lock) {
             this.chunksToSave.put(pos, compound);
         }
-        this.queue.add(new QueuedChunk(pos, compound));
+        // Sponge - a chunk that is still queued is written with the latest data
+        this.writeQueue.add(pos);
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
@@ -243,58 +292,63 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
      */
     @Overwrite
     public boolean writeNextIO() {
-        QueuedChunk chunk = this.queue.poll();
-        if (chunk == null) {
+        // Sponge - write the queued chunks of a region at once
+        final List<ChunkPos> batch = this.writeQueue.pollRegion(MAX_WRITE_BATCH_SIZE);
+        if (batch.isEmpty()) {
             if (this.flushing) {
                 LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
             }
 
             return false;
-        } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
+        }
+        for (ChunkPos pos : batch) {
+            // The latest data saved for the chunk
+            final NBTTagCompound compound = this.chunksToSave.get(pos);
+            if (compound == null) {
+                continue;
+            }
+            this.writeChunk(pos, compound);
+            synchronized (this.lock) {
+                // Sponge - This will not equal if a newer version is still pending
+                this.chunksToSave.remove(pos, compound);
+            }
+        }
+        if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getSyncChunkWrites()) {
+            this.syncRegionFile(batch.get(0));
+        }
+        return true;
+    }
 
+    private void writeChunk(ChunkPos pos, NBTTagCompound compound) {
+        Exception lastException = null;
+        for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
             try {
-                // this.field_193415_c.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
-                }
-
-                synchronized (this.lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.field_193415_c.remove(chunkpos);
+                final DataOutputStream stream = RegionFileCache.getChunkOutputStream(this.chunkSaveLocation, pos.x, pos.z);
+                CompressedStreamTools.write(compound, stream);
+                stream.close();
+                this.writeQueue.recordWrite(stream.size());
+                return;
+            } catch (Exception e) {
+                lastException = e;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
+        }
+        LOGGER.error("Failed to save chunk at {}", pos, lastException);
+    }
 
-            return lvt_3_1_;
+    private void syncRegionFile(ChunkPos pos) {
+        final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(this.chunkSaveLocation, pos.x, pos.z);
+        synchronized (regionFile) {
+            try {
+                ((IMixinRegionFile) regionFile).getDataFile().getFD().sync();
+            } catch (IOException e) {
+                LOGGER.error("Failed to sync region file of chunk at {}", pos, e);
+            }
         }
     }
 
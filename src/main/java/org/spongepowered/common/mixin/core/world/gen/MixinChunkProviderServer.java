@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -64,23 +65,32 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
+import org.spongepowered.common.util.LongDeadlineQueue;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
+
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
 
+    private static final long UNLOAD_RETRY_DELAY = 1000;
+
     private SpongeEmptyChunk EMPTY_CHUNK;
     private boolean denyChunkRequests = true;
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    // Chunks queued for unload, by the time they may be unloaded at
+    private final LongDeadlineQueue unloadQueue = new LongDeadlineQueue();
+    @Nullable private AsyncChunkLoader asyncChunkLoader;
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -106,6 +116,9 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = spongeConfig.getConfig().getWorld().getDenyChunkRequests();
         this.chunkUnloadDelay = spongeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = spongeConfig.getConfig().getWorld().getMaxChunkUnloads();
+        if (chunkLoaderIn instanceof IMixinAnvilChunkLoader) {
+            this.asyncChunkLoader = new AsyncChunkLoader((IMixinAnvilChunkLoader) chunkLoaderIn);
+        }
     }
 
     @Override
@@ -113,6 +126,54 @@ public WorldServer getWorld() {
         return this.world;
     }
 
+    @Override
+    public IChunkLoader getChunkLoader() {
+        return this.chunkLoader;
+    }
+
+    @Override
+    public CompletableFuture<Chunk> loadChunkAsync(int x, int z, boolean generate) {
+        final Chunk chunk = this.getLoadedChunk(x, z);
+        if (chunk != null) {
+            return CompletableFuture.completedFuture(chunk);
+        }
+        if (this.asyncChunkLoader == null) {
+            return CompletableFuture.completedFuture(generate ? this.provideChunk(x, z) : this.loadChunk(x, z));
+        }
+        return this.asyncChunkLoader.request(x, z, generate);
+    }
+
+    @Override
+    public int getPendingChunkLoadCount() {
+        return this.asyncChunkLoader == null ? 0 : this.asyncChunkLoader.getPendingCount();
+    }
+
+    @Nullable
+    private Chunk loadReadChunk(int x, int z, boolean generate) {
+        Chunk chunk = this.getLoadedChunk(x, z);
+        if (chunk == null) {
+            // Loads the chunk from the data that was read
+            chunk = this.loadChunkForce(x, z);
+        }
+        if (chunk == null && generate) {
+            chunk = this.provideChunk(x, z);
+        }
+        return chunk;
+    }
+
+    @Redirect(method = "loadChunkFromFile", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/chunk/storage/IChunkLoader;loadChunk(Lnet/minecraft/world/World;II)Lnet/minecraft/world/chunk/Chunk;"))
+    @Nullable
+    private Chunk onLoadChunkFromFile(IChunkLoader chunkLoader, net.minecraft.world.World world, int x, int z) throws IOException {
+        final CompletableFuture<NBTTagCompound> pendingRead = this.asyncChunkLoader == null ? null : this.asyncChunkLoader.getPendingRead(x, z);
+        if (pendingRead == null) {
+            return chunkLoader.loadChunk(world, x, z);
+        }
+        // Wait for the chunk that is already being read instead of reading it again
+        final NBTTagCompound compound = pendingRead.join();
+        return compound == null ? null : ((IMixinAnvilChunkLoader) chunkLoader).readChunk(world, x, z, compound);
+    }
+
     @Override
     public ChunkDataStream getGeneratedChunks() {
         if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
@@ -152,12 +213,33 @@ public void queueUnload(Chunk chunkIn)
     {
         if (!((IMixinChunk) chunkIn).isPersistedChunk() && this.world.provider.canDropChunk(chunkIn.x, chunkIn.z))
         {
-            // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
+            // Sponge - we avoid using the droppedChunksSet and queue the chunk by the time it may be unloaded at instead
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
+            if (!chunkIn.unloadQueued) {
+                this.unloadQueue.add(ChunkPos.asLong(chunkIn.x, chunkIn.z), this.getUnloadDeadline((IMixinChunk) chunkIn));
+            }
             chunkIn.unloadQueued = true;
         }
     }
 
+    /**
+     * Gets whether the chunk itself is persisted. Called from {@link #tick}
+     * after the {@link IMixinChunk#isPersistedChunk} check there, which other
+     * mixins may redirect to hold back unloads, to tell a persisted chunk
+     * apart from one that is only held back for now. Being a separate
+     * method keeps this call out of reach of those redirects.
+     *
+     * @param chunk The chunk
+     * @return True if the chunk is persisted
+     */
+    private boolean isPersisted(IMixinChunk chunk) {
+        return chunk.isPersistedChunk();
+    }
+
+    private long getUnloadDeadline(IMixinChunk chunk) {
+        return this.chunkUnloadDelay > 0 ? chunk.getScheduledForUnload() + this.chunkUnloadDelay : 0;
+    }
+
     // split from loadChunk to avoid 2 lookups with our inject
     private Chunk loadChunkForce(int x, int z) {
         Chunk chunk = this.loadChunkFromFile(x, z);
@@ -273,8 +355,9 @@ public long getChunkUnloadDelay() {
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
-     * simply looping through all loaded chunks and determining whether it
-     * can unload or not.
+     * polling the chunks whose unload delay has passed from the unload
+     * queue. Chunks that have become active again, or were unloaded in
+     * the meantime, are skipped.
      *
      * @return true if unload queue was processed
      */
@@ -284,29 +367,49 @@ public boolean tick()
         if (!this.world.disableLevelSaving && !((IMixinWorld) this.world).isFake())
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
             int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
+            while (chunksUnloaded < this.maxChunkUnloads && this.unloadQueue.hasDue(now)) {
+                final long chunkKey = this.unloadQueue.poll();
+                Chunk chunk = this.loadedChunks.get(chunkKey);
+                if (chunk == null || !chunk.unloadQueued) {
+                    continue;
+                }
                 IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
+                // Other mixins may redirect this check to hold back unloads, such as async lighting
+                if (spongeChunk.isPersistedChunk()) {
+                    if (this.isPersisted(spongeChunk)) {
+                        // Keep the chunk loaded, it will be queued again once it is no longer persisted
+                        chunk.unloadQueued = false;
+                    } else {
+                        this.unloadQueue.add(chunkKey, now + UNLOAD_RETRY_DELAY);
                     }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+                    continue;
                 }
+                if (this.getChunkUnloadDelay() > 0) {
+                    final long deadline = this.getUnloadDeadline(spongeChunk);
+                    if (deadline > now) {
+                        // Rescheduled since it was queued
+                        this.unloadQueue.add(chunkKey, deadline);
+                        continue;
+                    }
+                    spongeChunk.setScheduledForUnload(-1);
+                }
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.loadedChunks.remove(chunkKey);
+                chunksUnloaded++;
             }
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
 
+        if (this.asyncChunkLoader != null && this.asyncChunkLoader.getPendingCount() > 0) {
+            ((IMixinWorldServer) this.world).getTimingsHandler().asyncChunkLoadTimer.startTiming();
+            this.asyncChunkLoader.loadReadChunks(this::loadReadChunk);
+            ((IMixinWorldServer) this.world).getTimingsHandler().asyncChunkLoadTimer.stopTiming();
+        }
+
         this.chunkLoader.chunkTick();
         return false;
     }
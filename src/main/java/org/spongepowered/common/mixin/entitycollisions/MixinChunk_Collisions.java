@@ -26,23 +26,16 @@
 
 import com.google.common.base.Predicate;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
-import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.event.tracking.PhaseContext;
-import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionList;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IMixinWorldServer_Collisions;
 
 import java.util.List;
 
@@ -51,75 +44,22 @@ public class MixinChunk_Collisions {
 
     @Shadow @Final private World world;
 
-    @Inject(method = "getEntitiesWithinAABBForEntity",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
-            CallbackInfo ci) {
-        // ignore players and entities with parts (ex. EnderDragon)
-        if (this.world.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
-            return;
-        }
-        // Run hook in EntityLivingBase to support maxEntityCramming
-        if (entityIn != null && entityIn instanceof EntityLivingBase && ((IModData_Collisions) entityIn).isRunningCollideWithNearby()) {
-            return;
-        }
-
-        if (!allowEntityCollision(listToFill)) {
-            ci.cancel();
-        }
-    }
-
+    // Queries excluding an entity are answered by the collision index of the world,
+    // the limit of typed queries is resolved once per query and kept by its list.
     @Inject(method = "getEntitiesOfTypeWithinAABB",
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
             Predicate<? super T> p_177430_4_, CallbackInfo ci) {
-        // ignore player checks
-        // ignore item check (ex. Hoppers)
-        if (this.world.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+        if (!(listToFill instanceof EntityCollisionList) || !(this.world instanceof IMixinWorldServer_Collisions)) {
             return;
         }
-
-        if (!allowEntityCollision(listToFill)) {
-            ci.cancel();
+        final EntityCollisionList<T> list = (EntityCollisionList<T>) listToFill;
+        if (!list.isLimitResolved()) {
+            list.setLimit(((IMixinWorldServer_Collisions) this.world).getCollisionLimit(entityClass));
         }
-    }
-
-    private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
-        if (this.world instanceof IMixinWorldServer) {
-            if (PhaseTracker.getInstance().getCurrentState().ignoresEntityCollisions()) {
-                // allow explosions
-                return true;
-            }
-
-            final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getCurrentContext();
-            final Object source = phaseContext.getSource();
-            if (source == null) {
-                return true;
-            }
-
-            if (source instanceof LocatableBlock) {
-                final LocatableBlock locatable = (LocatableBlock) source;
-                final BlockType blockType =locatable.getLocation().getBlockType();
-                final IModData_Collisions spongeBlock = (IModData_Collisions) blockType;
-                if (spongeBlock.requiresCollisionsCacheRefresh()) {
-                    spongeBlock.initializeCollisionState(this.world);
-                    spongeBlock.requiresCollisionsCacheRefresh(false);
-                }
-
-                return !((spongeBlock.getMaxCollisions() >= 0) && (listToFill.size() >= spongeBlock.getMaxCollisions()));
-            } else if (source instanceof IModData_Collisions) {
-                final IModData_Collisions spongeEntity = (IModData_Collisions) source;
-                if (spongeEntity.requiresCollisionsCacheRefresh()) {
-                    spongeEntity.initializeCollisionState(this.world);
-                    spongeEntity.requiresCollisionsCacheRefresh(false);
-                }
-
-                return !((spongeEntity.getMaxCollisions() >= 0) && (listToFill.size() >= spongeEntity.getMaxCollisions()));
-            }
-
-            return true;
+        final int limit = list.getLimit();
+        if (limit >= 0 && list.size() >= limit) {
+            ci.cancel();
         }
-
-        return true;
     }
 }
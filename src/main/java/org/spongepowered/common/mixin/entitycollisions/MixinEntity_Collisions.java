@@ -26,6 +26,7 @@
 
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
@@ -44,6 +45,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IMixinWorldServer_Collisions;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 
 @Mixin(value = net.minecraft.entity.Entity.class, priority = 1002)
@@ -82,6 +84,13 @@ public void onEntityConstruction(World world, CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "setEntityBoundingBox", at = @At("RETURN"))
+    private void onSetEntityBoundingBox(AxisAlignedBB bb, CallbackInfo ci) {
+        if (this.world instanceof IMixinWorldServer_Collisions) {
+            ((IMixinWorldServer_Collisions) this.world).getEntityCollisionIndex().update((net.minecraft.entity.Entity) (Object) this);
+        }
+    }
+
     @Override
     public int getMaxCollisions() {
         return this.maxCollisions;
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entitycollisions;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+import org.spongepowered.api.world.LocatableBlock;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionIndex;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionList;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IMixinWorldServer_Collisions;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(value = WorldServer.class, priority = 1005)
+public abstract class MixinWorldServer_Collisions extends World implements IMixinWorldServer_Collisions {
+
+    private final EntityCollisionIndex entityCollisionIndex = new EntityCollisionIndex();
+
+    protected MixinWorldServer_Collisions(ISaveHandler saveHandlerIn, WorldInfo info, WorldProvider providerIn,
+            Profiler profilerIn, boolean client) {
+        super(saveHandlerIn, info, providerIn, profilerIn, client);
+    }
+
+    @Inject(method = "onEntityAdded", at = @At("TAIL"))
+    private void onEntityAddedToCollisionIndex(Entity entityIn, CallbackInfo ci) {
+        this.entityCollisionIndex.add(entityIn);
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("TAIL"))
+    private void onEntityRemovedFromCollisionIndex(Entity entityIn, CallbackInfo ci) {
+        this.entityCollisionIndex.remove(entityIn);
+    }
+
+    /**
+     * Looks up the colliding entities in the spatial index of this world instead
+     * of walking the entity lists of every chunk around the box. The maximum amount
+     * of collisions of the current source is resolved once, and stops the lookup
+     * as soon as it is reached.
+     */
+    @Override
+    public List<Entity> getEntitiesInAABBexcluding(@Nullable Entity entityIn, AxisAlignedBB boundingBox,
+            @Nullable Predicate<? super Entity> predicate) {
+        final List<Entity> list = new ArrayList<>();
+        this.entityCollisionIndex.getEntities(entityIn, boundingBox, predicate, list, this.getCollisionLimit(entityIn));
+        return list;
+    }
+
+    // The result list carries the limit of the query to the chunks, where it is
+    // resolved once by getCollisionLimit(Class)
+    @Redirect(method = "getEntitiesWithinAABB(Ljava/lang/Class;Lnet/minecraft/util/math/AxisAlignedBB;Lcom/google/common/base/Predicate;)Ljava/util/List;",
+            at = @At(value = "INVOKE", target = "Lcom/google/common/collect/Lists;newArrayList()Ljava/util/ArrayList;", remap = false))
+    private ArrayList<Entity> onGetEntitiesWithinAABBCreateList() {
+        return new EntityCollisionList<>();
+    }
+
+    @Override
+    public EntityCollisionIndex getEntityCollisionIndex() {
+        return this.entityCollisionIndex;
+    }
+
+    @Override
+    public int getCollisionLimit(Class<? extends Entity> entityClass) {
+        // ignore player checks
+        // ignore item check (ex. Hoppers)
+        if (EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+            return -1;
+        }
+        return this.getSourceCollisionLimit();
+    }
+
+    private int getCollisionLimit(@Nullable Entity entityIn) {
+        // ignore players and entities with parts (ex. EnderDragon)
+        if (entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
+            return -1;
+        }
+        // Let the hook in EntityLivingBase apply the limit after maxEntityCramming
+        if (entityIn instanceof EntityLivingBase && ((IModData_Collisions) entityIn).isRunningCollideWithNearby()) {
+            return -1;
+        }
+        return this.getSourceCollisionLimit();
+    }
+
+    private int getSourceCollisionLimit() {
+        if (PhaseTracker.getInstance().getCurrentState().ignoresEntityCollisions()) {
+            // allow explosions
+            return -1;
+        }
+
+        final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getCurrentContext();
+        final Object source = phaseContext.getSource();
+        final IModData_Collisions collisionData;
+        if (source instanceof LocatableBlock) {
+            collisionData = (IModData_Collisions) ((LocatableBlock) source).getLocation().getBlockType();
+        } else if (source instanceof IModData_Collisions) {
+            collisionData = (IModData_Collisions) source;
+        } else {
+            return -1;
+        }
+
+        if (collisionData.requiresCollisionsCacheRefresh()) {
+            collisionData.initializeCollisionState(this);
+            collisionData.requiresCollisionsCacheRefresh(false);
+        }
+        return collisionData.getMaxCollisions();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.server.management;
+
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunks of player chunk map entries asynchronously. An entry
+ * without chunk stays queued in the player chunk map, which provides it
+ * again every tick until the chunk has been loaded.
+ */
+@Mixin(value = PlayerChunkMapEntry.class, priority = 1002)
+public abstract class MixinPlayerChunkMapEntry_Async_Loading {
+
+    @Redirect(method = {"<init>", "providePlayerChunk"}, at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"), require = 0, expect = 0)
+    @Nullable
+    private Chunk onLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        final Chunk chunk = chunkProvider.getLoadedChunk(x, z);
+        if (chunk != null) {
+            return chunk;
+        }
+        ((IMixinChunkProviderServer) chunkProvider).loadChunkAsync(x, z, false);
+        return null;
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;"), require = 0, expect = 0)
+    @Nullable
+    private Chunk onProvideChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        final Chunk chunk = chunkProvider.getLoadedChunk(x, z);
+        if (chunk != null) {
+            return chunk;
+        }
+        // Chunks that have to be generated are still generated right away
+        if (!chunkProvider.isChunkGeneratedAt(x, z)) {
+            return chunkProvider.provideChunk(x, z);
+        }
+        ((IMixinChunkProviderServer) chunkProvider).loadChunkAsync(x, z, true);
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.tileentity;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntityLockable;
+import net.minecraft.tileentity.TileEntityLockableLoot;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.inventory.IMixinTrackedInventory;
+
+@Mixin(TileEntityLockableLoot.class)
+public abstract class MixinTileEntityLockableLoot_Slot_Tracking extends TileEntityLockable implements IMixinTrackedInventory {
+
+    protected int modificationCount;
+
+    @Override
+    public boolean isTrackingChanges() {
+        // Mod inventories may change their stacks without marking themselves dirty
+        return ((IMixinTileEntity) this).isVanilla();
+    }
+
+    @Override
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        // Every slot change of the vanilla inventories, including the changes
+        // made to the stacks through slots, is followed by marking them dirty
+        this.modificationCount++;
+    }
+
+    @Inject(method = "removeStackFromSlot", at = @At("RETURN"))
+    private void onRemoveStackFromSlot(int index, CallbackInfoReturnable<ItemStack> cir) {
+        this.modificationCount++;
+    }
+
+    @Inject(method = "clear", at = @At("RETURN"))
+    private void onClear(CallbackInfo ci) {
+        this.modificationCount++;
+    }
+
+}
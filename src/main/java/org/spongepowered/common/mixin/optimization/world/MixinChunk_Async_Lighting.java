@@ -45,11 +45,12 @@
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.ConcurrentShortSet;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,10 +59,12 @@
 public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private CopyOnWriteArrayList<Short> queuedSkyLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ConcurrentShortSet queuedSkyLightingUpdates = new ConcurrentShortSet();
     // Keeps track of block positions in this chunk currently queued for block light update
-    private CopyOnWriteArrayList<Short> queuedBlockLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ConcurrentShortSet queuedBlockLightingUpdates = new ConcurrentShortSet();
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
+    // Block positions queued for a light update, waiting to be processed by a single lighting task
+    private final LightUpdateBatch lightUpdateBatch = new LightUpdateBatch();
     private long lightUpdateTime;
     private ExecutorService lightExecutorService;
     private static final List<Chunk> EMPTY_LIST = new ArrayList<>();
@@ -699,16 +702,21 @@ private boolean checkWorldLight(BlockPos pos, List<Chunk> neighbors) {
     }
 
     /**
-     * Gets the list of block positions currently queued for lighting updates.
+     * Gets the set of block positions currently queued for lighting updates.
      *
      * @param type The light type
-     * @return The list of queued block positions, empty if none
+     * @return The set of queued block positions, empty if none
      */
     @Override
-    public CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type) {
+    public ConcurrentShortSet getQueuedLightingUpdates(EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.queuedSkyLightingUpdates;
         }
         return this.queuedBlockLightingUpdates;
     }
+
+    @Override
+    public LightUpdateBatch getLightUpdateBatch() {
+        return this.lightUpdateBatch;
+    }
 }
@@ -40,23 +40,32 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.util.ConcurrentShortSet;
+import org.spongepowered.common.world.lighting.LightUpdateBatch;
+import org.spongepowered.common.world.lighting.LightingBuffer;
+import org.spongepowered.common.world.lighting.LightingRegionLocks;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
 @Mixin(value = WorldServer.class)
 public abstract class MixinWorldServer_Async_Lighting extends MixinWorld implements IMixinWorldServer {
 
-    private static final int NUM_XZ_BITS = 4;
-    private static final int NUM_SHORT_Y_BITS = 8;
-    private static final short XZ_MASK = 0xF;
-    private static final short Y_SHORT_MASK = 0xFF;
+    private static final EnumFacing[] FACINGS = EnumFacing.values();
+    private static final EnumSkyBlock[] LIGHT_TYPES = EnumSkyBlock.values();
 
     private ExecutorService lightExecutorService = 
                 Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final LightingRegionLocks lightingRegionLocks =
+            new LightingRegionLocks(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads());
+    // The amount of lighting updates of this world that are queued but not yet processed
+    private final AtomicInteger queuedLightingUpdates = new AtomicInteger();
+    private final int lightingQueueWarningThreshold =
+            SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getQueueWarningThreshold();
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -65,137 +74,175 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
 
     @Override
     public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
-        // Sponge - This check is not needed as neighbors are checked in updateLightAsync
-        if (false && !this.isAreaLoaded(pos, 17, false)) {
-            return false;
-        } else {
-            final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
-            int i = 0;
-            int j = 0;
-            //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
-            int k = this.getLightForAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
-            int l = this.getRawBlockLightAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
-            int i1 = pos.getX();
-            int j1 = pos.getY();
-            int k1 = pos.getZ();
-
-            if (l > k) {
-                this.lightUpdateBlockList[j++] = 133152;
-            } else if (l < k) {
-                this.lightUpdateBlockList[j++] = 133152 | k << 18;
-
-                while (i < j) {
-                    int l1 = this.lightUpdateBlockList[i++];
-                    int i2 = (l1 & 63) - 32 + i1;
-                    int j2 = (l1 >> 6 & 63) - 32 + j1;
-                    int k2 = (l1 >> 12 & 63) - 32 + k1;
-                    int l2 = l1 >> 18 & 15;
-                    BlockPos blockpos = new BlockPos(i2, j2, k2);
-                    int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
-
-                    if (i3 == l2) {
-                        this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors); // Sponge - use thread safe method
-
-                        if (l2 > 0) {
-                            int j3 = MathHelper.abs(i2 - i1);
-                            int k3 = MathHelper.abs(j2 - j1);
-                            int l3 = MathHelper.abs(k2 - k1);
-
-                            if (j3 + k3 + l3 < 17) {
-                                BlockPos.PooledMutableBlockPos blockpos$pooledmutableblockpos = BlockPos.PooledMutableBlockPos.retain();
-
-                                for (EnumFacing enumfacing : EnumFacing.values()) {
-                                    int i4 = i2 + enumfacing.getXOffset();
-                                    int j4 = j2 + enumfacing.getYOffset();
-                                    int k4 = k2 + enumfacing.getZOffset();
-                                    blockpos$pooledmutableblockpos.setPos(i4, j4, k4);
-                                    // Sponge start - get chunk safely
-                                    final Chunk pooledChunk = this.getLightChunk(blockpos$pooledmutableblockpos, currentChunk, neighbors);
-                                    if (pooledChunk == null) {
-                                        continue;
-                                    }
-                                    int l4 = Math.max(1, pooledChunk.getBlockState(blockpos$pooledmutableblockpos).getLightOpacity());
-                                    i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
-                                    // Sponge end
-
-                                    if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                        this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
-                                    }
+        final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
+        final LightingBuffer buffer = LightingBuffer.get();
+        spongeChunk.getQueuedLightingUpdates(lightType).remove(this.blockPosToShort(pos));
+        final int heldLocks = this.lightingRegionLocks.lock(currentChunk.x, currentChunk.z, buffer.heldLocks);
+        try {
+            this.propagateLightAsync(lightType, pos.getX(), pos.getY(), pos.getZ(), currentChunk, neighbors, buffer);
+        } finally {
+            this.lightingRegionLocks.unlock(buffer.heldLocks, heldLocks);
+            this.queuedLightingUpdates.decrementAndGet();
+            this.releaseLightNeighbors(currentChunk, neighbors);
+        }
+        return true;
+    }
+
+    /**
+     * Processes all updates queued in the batch of a chunk, until no more
+     * updates are added to it.
+     *
+     * @param currentChunk The chunk of the batch
+     * @param batch The batch
+     * @param neighbors A thread-safe list of surrounding neighbor chunks
+     */
+    private void processLightUpdateBatch(Chunk currentChunk, LightUpdateBatch batch, List<Chunk> neighbors) {
+        final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
+        final LightingBuffer buffer = LightingBuffer.get();
+        final int baseX = currentChunk.x << 4;
+        final int baseZ = currentChunk.z << 4;
+        final int heldLocks = this.lightingRegionLocks.lock(currentChunk.x, currentChunk.z, buffer.heldLocks);
+        try {
+            int count;
+            while ((count = batch.drain()) > 0) {
+                final int[] updates = batch.getDrained();
+                for (int i = 0; i < count; i++) {
+                    final EnumSkyBlock lightType = LIGHT_TYPES[LightUpdateBatch.getLightType(updates[i])];
+                    final short position = LightUpdateBatch.getPosition(updates[i]);
+                    // Dequeue first, so changes made during the propagation queue the position again
+                    spongeChunk.getQueuedLightingUpdates(lightType).remove(position);
+                    try {
+                        this.propagateLightAsync(lightType, baseX + (position & 0xF), position >> 8 & 0xFF, baseZ + (position >> 4 & 0xF),
+                                currentChunk, neighbors, buffer);
+                    } catch (RuntimeException e) {
+                        // The batch must be drained regardless, otherwise no further updates of this chunk would be processed
+                        SpongeImpl.getLogger().error("Failed to propagate light in chunk [{}, {}]", currentChunk.x, currentChunk.z, e);
+                    }
+                    this.queuedLightingUpdates.decrementAndGet();
+                }
+            }
+        } finally {
+            this.lightingRegionLocks.unlock(buffer.heldLocks, heldLocks);
+            this.releaseLightNeighbors(currentChunk, neighbors);
+        }
+    }
+
+    private void propagateLightAsync(EnumSkyBlock lightType, int i1, int j1, int k1, Chunk currentChunk, List<Chunk> neighbors,
+            LightingBuffer buffer) {
+        // Sponge start - use the buffers of this thread instead of the world's lightUpdateBlockList and new positions
+        final int[] lightUpdateBlockList = buffer.queue;
+        final BlockPos.MutableBlockPos blockpos = buffer.pos;
+        final BlockPos.MutableBlockPos neighborPos = buffer.neighborPos;
+        // Sponge end
+        int i = 0;
+        int j = 0;
+        //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
+        blockpos.setPos(i1, j1, k1);
+        int k = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
+        int l = this.getRawBlockLightAsync(lightType, blockpos, currentChunk, neighbors, buffer); // Sponge - use thread safe method
+
+        if (l > k) {
+            lightUpdateBlockList[j++] = 133152;
+        } else if (l < k) {
+            lightUpdateBlockList[j++] = 133152 | k << 18;
+
+            while (i < j) {
+                int l1 = lightUpdateBlockList[i++];
+                int i2 = (l1 & 63) - 32 + i1;
+                int j2 = (l1 >> 6 & 63) - 32 + j1;
+                int k2 = (l1 >> 12 & 63) - 32 + k1;
+                int l2 = l1 >> 18 & 15;
+                blockpos.setPos(i2, j2, k2);
+                int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
+
+                if (i3 == l2) {
+                    this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors); // Sponge - use thread safe method
+
+                    if (l2 > 0) {
+                        int j3 = MathHelper.abs(i2 - i1);
+                        int k3 = MathHelper.abs(j2 - j1);
+                        int l3 = MathHelper.abs(k2 - k1);
+
+                        if (j3 + k3 + l3 < 17) {
+                            for (EnumFacing enumfacing : FACINGS) {
+                                int i4 = i2 + enumfacing.getXOffset();
+                                int j4 = j2 + enumfacing.getYOffset();
+                                int k4 = k2 + enumfacing.getZOffset();
+                                neighborPos.setPos(i4, j4, k4);
+                                // Sponge start - get chunk safely
+                                final Chunk pooledChunk = this.getLightChunk(neighborPos, currentChunk, neighbors);
+                                if (pooledChunk == null) {
+                                    continue;
                                 }
+                                int l4 = Math.max(1, pooledChunk.getBlockState(neighborPos).getLightOpacity());
+                                i3 = this.getLightForAsync(lightType, neighborPos, currentChunk, neighbors);
+                                // Sponge end
 
-                                blockpos$pooledmutableblockpos.release();
+                                if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                    lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                }
                             }
                         }
                     }
                 }
-
-                i = 0;
             }
 
-            //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
-            //this.theProfiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
+            i = 0;
+        }
 
-            while (i < j) {
-                int i5 = this.lightUpdateBlockList[i++];
-                int j5 = (i5 & 63) - 32 + i1;
-                int k5 = (i5 >> 6 & 63) - 32 + j1;
-                int l5 = (i5 >> 12 & 63) - 32 + k1;
-                BlockPos blockpos1 = new BlockPos(j5, k5, l5);
-                int i6 = this.getLightForAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
-                int j6 = this.getRawBlockLightAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
-
-                if (j6 != i6) {
-                    this.setLightForAsync(lightType, blockpos1, j6, currentChunk, neighbors); // Sponge - use thread safe method
-
-                    if (j6 > i6) {
-                        int k6 = Math.abs(j5 - i1);
-                        int l6 = Math.abs(k5 - j1);
-                        int i7 = Math.abs(l5 - k1);
-                        boolean flag = j < this.lightUpdateBlockList.length - 6;
-
-                        if (k6 + l6 + i7 < 17 && flag) {
-                            // Sponge start - use thread safe method getLightForAsync
-                            if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+        //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
+        //this.theProfiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
+
+        while (i < j) {
+            int i5 = lightUpdateBlockList[i++];
+            int j5 = (i5 & 63) - 32 + i1;
+            int k5 = (i5 >> 6 & 63) - 32 + j1;
+            int l5 = (i5 >> 12 & 63) - 32 + k1;
+            blockpos.setPos(j5, k5, l5);
+            int i6 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
+            int j6 = this.getRawBlockLightAsync(lightType, blockpos, currentChunk, neighbors, buffer); // Sponge - use thread safe method
+
+            if (j6 != i6) {
+                this.setLightForAsync(lightType, blockpos, j6, currentChunk, neighbors); // Sponge - use thread safe method
+
+                if (j6 > i6) {
+                    int k6 = Math.abs(j5 - i1);
+                    int l6 = Math.abs(k5 - j1);
+                    int i7 = Math.abs(l5 - k1);
+                    boolean flag = j < lightUpdateBlockList.length - 6;
+
+                    if (k6 + l6 + i7 < 17 && flag) {
+                        // Sponge start - use thread safe method getLightForAsync
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5 - 1, k5, l5), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5 + 1, k5, l5), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5 - 1, l5), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5 + 1, l5), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5, l5 - 1), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
-                            }
-                            // Sponge end
+                        if (this.getLightForAsync(lightType, neighborPos.setPos(j5, k5, l5 + 1), currentChunk, neighbors) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                         }
+                        // Sponge end
                     }
                 }
             }
-
-            // Sponge start - Asynchronous light updates
-            spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) this.blockPosToShort(pos));
-            spongeChunk.getPendingLightUpdates().decrementAndGet();
-            for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-                neighbor.getPendingLightUpdates().decrementAndGet();
-            }
-
-            // Sponge end
-            //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
-            return true;
         }
+
+        //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
     }
 
     @Override
@@ -213,16 +260,47 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
             return false;
         }
 
+        // Claims the position atomically, so concurrent callers can't queue the same update twice
         final short shortPos = this.blockPosToShort(pos);
-        if (spongeChunk.getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        if (!spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos)) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
-        spongeChunk.getPendingLightUpdates().incrementAndGet();
+        if (this.queuedLightingUpdates.incrementAndGet() == this.lightingQueueWarningThreshold) {
+            SpongeImpl.getLogger().warn("World '{}' has {} queued lighting updates, the lighting threads are falling behind.",
+                    this.getWorldInfo().getWorldName(), this.lightingQueueWarningThreshold);
+        }
         spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            // All updates of a chunk share one task, only the update starting a new batch has to schedule it
+            final LightUpdateBatch batch = spongeChunk.getLightUpdateBatch();
+            if (batch.add(LightUpdateBatch.pack(lightType.ordinal(), shortPos))) {
+                final List<Chunk> neighbors = this.retainLightNeighbors(chunk);
+                this.lightExecutorService.execute(() -> {
+                    this.processLightUpdateBatch(chunk, batch, neighbors);
+                });
+            }
+        } else {
+            this.checkLightAsync(lightType, pos, chunk, this.retainLightNeighbors(chunk));
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the chunks surrounding the given chunk, and marks them and the
+     * chunk itself as having pending light updates, which prevents them from
+     * being unloaded until {@link #releaseLightNeighbors(Chunk, List)}.
+     *
+     * @param chunk The chunk
+     * @return The surrounding chunks
+     */
+    private List<Chunk> retainLightNeighbors(Chunk chunk) {
+        final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+        spongeChunk.getPendingLightUpdates().incrementAndGet();
+
         List<Chunk> neighbors = spongeChunk.getNeighbors();
 
         // add diagonal chunks
@@ -254,17 +332,18 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
             neighbor.getPendingLightUpdates().incrementAndGet();
             neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
         }
+        return neighbors;
+    }
 
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.lightExecutorService).getQueue().size());
-        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.lightExecutorService.execute(() -> {
-                this.checkLightAsync(lightType, pos, chunk, neighbors);
-            });
-        } else {
-            this.checkLightAsync(lightType, pos, chunk, neighbors);
+    private void releaseLightNeighbors(Chunk chunk, List<Chunk> neighbors) {
+        final long worldTime = chunk.getWorld().getTotalWorldTime();
+        ((IMixinChunk) chunk).getPendingLightUpdates().decrementAndGet();
+        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
+            // Batches may run for a while, keep the neighbors loaded for some time after they finished
+            neighbor.setLightUpdateTime(worldTime);
+            neighbor.getPendingLightUpdates().decrementAndGet();
         }
-
-        return true;
     }
 
     @Override
@@ -309,7 +388,7 @@ private int getLightForAsync(EnumSkyBlock lightType, BlockPos pos, Chunk current
         return chunk.getLightFor(lightType, pos);
     }
 
-    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
+    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors, LightingBuffer buffer) {
         final Chunk chunk = getLightChunk(pos, currentChunk, neighbors);
         if (chunk == null || chunk.unloadQueued) {
             return lightType.defaultLightValue;
@@ -335,8 +414,10 @@ private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk cu
             } else if (i >= 14) {
                 return i;
             } else {
-                for (EnumFacing enumfacing : EnumFacing.values()) {
-                    BlockPos blockpos = pos.offset(enumfacing);
+                for (EnumFacing enumfacing : FACINGS) {
+                    // Sponge - reuse the position of this thread
+                    final BlockPos blockpos = buffer.rawLightPos.setPos(pos.getX() + enumfacing.getXOffset(), pos.getY() + enumfacing.getYOffset(),
+                            pos.getZ() + enumfacing.getZOffset());
                     int k = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors) - j;
 
                     if (k > i) {
@@ -363,23 +444,20 @@ public void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, Ch
         }
     }
 
-    private short blockPosToShort(BlockPos pos) {
-        short serialized = (short) setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = (short) setNibble(serialized, pos.getY() & Y_SHORT_MASK, 1, NUM_SHORT_Y_BITS);
-        serialized = (short) setNibble(serialized, pos.getZ() & XZ_MASK, 3, NUM_XZ_BITS);
-        return serialized;
-    }
-
     /**
-     * Modifies bits in an integer.
+     * Packs the position within its chunk into a short. The y coordinate
+     * occupies the high byte, which keeps each chunk section within a
+     * single page of the {@link ConcurrentShortSet}.
      *
-     * @param num Integer to modify
-     * @param data Bits of data to add
-     * @param which Index of nibble to start at
-     * @param bitsToReplace The number of bits to replace starting from nibble index
-     * @return The modified integer
+     * @param pos The block position
+     * @return The packed position
      */
-    private int setNibble(int num, int data, int which, int bitsToReplace) {
-        return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
+    private short blockPosToShort(BlockPos pos) {
+        return (short) ((pos.getY() & 0xFF) << 8 | (pos.getZ() & 0xF) << 4 | (pos.getX() & 0xF));
+    }
+
+    @Override
+    public int getQueuedLightingUpdateCount() {
+        return this.queuedLightingUpdates.get();
     }
 }
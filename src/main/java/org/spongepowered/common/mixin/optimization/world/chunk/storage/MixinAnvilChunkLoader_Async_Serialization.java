@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.chunk.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.world.storage.AsyncChunkSerializer;
+import org.spongepowered.common.world.storage.ChunkSectionSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+@Mixin(value = AnvilChunkLoader.class, priority = 1002)
+public abstract class MixinAnvilChunkLoader_Async_Serialization implements IMixinAnvilChunkLoader {
+
+    @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
+
+    @Shadow protected abstract void addChunkToPending(ChunkPos pos, NBTTagCompound compound);
+
+    private final AsyncChunkSerializer chunkSerializer = new AsyncChunkSerializer();
+    // The sections of the chunk currently being saved by a thread, only set on the server thread if serialized asynchronously.
+    // Per thread, so saves running concurrently on other threads don't add their sections to it.
+    private final ThreadLocal<List<ChunkSectionSnapshot>> sectionSnapshots = new ThreadLocal<>();
+    // Only accessed on the server thread, while it has section snapshots
+    private long snapshotStartTime;
+
+    @Override
+    public AsyncChunkSerializer getChunkSerializer() {
+        return this.chunkSerializer;
+    }
+
+    @Inject(method = "saveChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/AnvilChunkLoader;"
+            + "writeChunkToNBT(Lnet/minecraft/world/chunk/Chunk;Lnet/minecraft/world/World;Lnet/minecraft/nbt/NBTTagCompound;)V"))
+    private void onSaveChunkWrite(World world, Chunk chunk, CallbackInfo ci) {
+        if (SpongeImplHooks.isMainThread() && this.chunkSerializer.tryReserve()) {
+            this.sectionSnapshots.set(new ArrayList<>(16));
+            this.snapshotStartTime = System.nanoTime();
+        }
+    }
+
+    @Redirect(method = "writeChunkToNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/BlockStateContainer;"
+            + "getDataForNBT([BLnet/minecraft/world/chunk/NibbleArray;)Lnet/minecraft/world/chunk/NibbleArray;"))
+    @Nullable
+    private NibbleArray onGetDataForNBT(BlockStateContainer container, byte[] blockIds, NibbleArray metadata) {
+        final List<ChunkSectionSnapshot> sections = this.sectionSnapshots.get();
+        if (sections == null) {
+            return container.getDataForNBT(blockIds, metadata);
+        }
+        // The arrays are already part of the section tag, the serializer fills them and adds the 'Add' array if needed
+        sections.add(new ChunkSectionSnapshot(container, blockIds, metadata));
+        return null;
+    }
+
+    @Redirect(method = "saveChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/AnvilChunkLoader;"
+            + "addChunkToPending(Lnet/minecraft/util/math/ChunkPos;Lnet/minecraft/nbt/NBTTagCompound;)V"))
+    private void onAddChunkToPending(AnvilChunkLoader chunkLoader, ChunkPos pos, NBTTagCompound compound) {
+        final List<ChunkSectionSnapshot> sections = this.sectionSnapshots.get();
+        if (sections == null) {
+            // Don't let an older, still serializing save of the chunk overwrite this one
+            this.chunkSerializer.await(pos);
+            this.addChunkToPending(pos, compound);
+            return;
+        }
+        this.sectionSnapshots.remove();
+        // Let existence checks see the chunk right away, loading it waits for the serialization.
+        // Data that is still pending is kept, as it may be queued to be written already.
+        this.chunksToSave.putIfAbsent(pos, compound);
+        this.chunkSerializer.submit(pos, compound, sections, System.nanoTime() - this.snapshotStartTime, this::addChunkToPending);
+    }
+
+    @Inject(method = "saveChunk", at = @At("RETURN"))
+    private void onSaveChunkReturn(World world, Chunk chunk, CallbackInfo ci) {
+        if (this.sectionSnapshots.get() != null) {
+            // Writing the chunk failed before it could be submitted
+            this.sectionSnapshots.remove();
+            this.chunkSerializer.cancel();
+        }
+    }
+
+    @Inject(method = "loadChunk", at = @At("HEAD"))
+    private void onLoadChunk(World world, int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        this.chunkSerializer.await(new ChunkPos(x, z));
+    }
+
+    @Inject(method = "loadChunk__Async", at = @At("HEAD"), remap = false, require = 0, expect = 0)
+    private void onLoadChunkAsync(World world, int x, int z, CallbackInfoReturnable<Object[]> cir) {
+        this.chunkSerializer.await(new ChunkPos(x, z));
+    }
+
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void onFlush(CallbackInfo ci) {
+        this.chunkSerializer.awaitAll();
+    }
+}
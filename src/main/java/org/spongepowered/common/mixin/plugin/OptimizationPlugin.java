@@ -102,14 +102,24 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useCacheTameableOwners)
             .put("org.spongepowered.common.mixin.optimization.network.play.server.MixinSPacketChunkData_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
+            .put("org.spongepowered.common.mixin.optimization.server.management.MixinPlayerChunkMapEntry_Async_Loading",
+                    OptimizationCategory::useAsyncChunkLoading)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
+            .put("org.spongepowered.common.mixin.optimization.world.chunk.storage.MixinAnvilChunkLoader_Async_Serialization",
+                    OptimizationCategory::useAsyncChunkSerialization)
             .put("org.spongepowered.common.mixin.optimization.world.gen.structure.MixinMapGenStructure_Structure_Saving",
                     OptimizationCategory::useStructureSave)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntityLockableLoot_Slot_Tracking",
+                    OptimizationCategory::useInventorySlotTracking)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntityHopper_Slot_Tracking",
+                    OptimizationCategory::useInventorySlotTracking)
+            .put("org.spongepowered.common.mixin.optimization.inventory.MixinInventoryLargeChest_Slot_Tracking",
+                    OptimizationCategory::useInventorySlotTracking)
             .put("org.spongepowered.common.mixin.optimization.mapoptimization.MixinEntityItemFrame_MapOptimization",
                     OptimizationCategory::useMapOptimization)
             .put("org.spongepowered.common.mixin.optimization.mapoptimization.MixinEntityTrackerEntry_MapOptimization",
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Arrays;
+
+/**
+ * The chunk columns covered by the activation range of at least one player,
+ * along with the players covering each column. Rebuilt every tick, and
+ * reused between ticks to avoid allocations.
+ */
+final class ActivationGrid {
+
+    private final Long2IntOpenHashMap columnIndices = new Long2IntOpenHashMap();
+    private int[] chunkX = new int[64];
+    private int[] chunkZ = new int[64];
+    private int[][] players = new int[64][];
+    private int[] playerCounts = new int[64];
+    private int size;
+
+    ActivationGrid() {
+        this.columnIndices.defaultReturnValue(-1);
+    }
+
+    void clear() {
+        this.columnIndices.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Marks the chunk column as covered by the player.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param player The index of the player in the world's player list
+     */
+    void add(int x, int z, int player) {
+        final long key = ChunkPos.asLong(x, z);
+        int index = this.columnIndices.get(key);
+        if (index == -1) {
+            index = this.size++;
+            if (index == this.chunkX.length) {
+                final int capacity = index * 2;
+                this.chunkX = Arrays.copyOf(this.chunkX, capacity);
+                this.chunkZ = Arrays.copyOf(this.chunkZ, capacity);
+                this.players = Arrays.copyOf(this.players, capacity);
+                this.playerCounts = Arrays.copyOf(this.playerCounts, capacity);
+            }
+            this.columnIndices.put(key, index);
+            this.chunkX[index] = x;
+            this.chunkZ[index] = z;
+            this.playerCounts[index] = 0;
+            if (this.players[index] == null) {
+                this.players[index] = new int[4];
+            }
+        }
+        int[] columnPlayers = this.players[index];
+        final int count = this.playerCounts[index];
+        if (count == columnPlayers.length) {
+            columnPlayers = this.players[index] = Arrays.copyOf(columnPlayers, count * 2);
+        }
+        columnPlayers[count] = player;
+        this.playerCounts[index] = count + 1;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int getChunkX(int index) {
+        return this.chunkX[index];
+    }
+
+    int getChunkZ(int index) {
+        return this.chunkZ[index];
+    }
+
+    int[] getPlayers(int index) {
+        return this.players[index];
+    }
+
+    int getPlayerCount(int index) {
+        return this.playerCounts[index];
+    }
+}
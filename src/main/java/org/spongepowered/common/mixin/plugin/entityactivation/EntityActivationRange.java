@@ -73,7 +73,10 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class EntityActivationRange {
 
@@ -85,14 +88,14 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    // Read by the parallel world activation while the server thread may add new entity types
+    static Map<Byte, Integer> maxActivationRanges = Maps.newConcurrentMap();
+    // Per thread, as the worlds may be activated in parallel
+    private static final ThreadLocal<ActivationGrid> activationGrid = ThreadLocal.withInitial(ActivationGrid::new);
+    // The entities whose activation state has to be refreshed on the server thread, as
+    // refreshing it may write to the configs while other worlds are activated
+    private static final Queue<Entity> deferredStateRefreshes = new ConcurrentLinkedQueue<>();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -212,6 +215,10 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The chunk columns within the maximum activation range of each
+     * player are collected into a grid first, so every entity is visited at
+     * most once per tick and only tested against the players near it.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
@@ -219,17 +226,27 @@ public static void activateEntities(World world) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
+        final List<EntityPlayer> players = world.playerEntities;
+        if (players.isEmpty()) {
+            return;
+        }
 
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
-
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
+        }
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
+
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final boolean isMainThread = SpongeImpl.getServer().isCallingFromMinecraftThread();
+        final ActivationGrid activationGrid = EntityActivationRange.activationGrid.get();
+        final AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+        activationGrid.clear();
+        for (int p = 0; p < players.size(); p++) {
+            final EntityPlayer player = players.get(p);
+            ((IModData_Activation) player).setActivatedTick(currentTick);
             growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
 
             int i = MathHelper.floor(maxBB.minX / 16.0D);
@@ -239,96 +256,110 @@ public static void activateEntities(World world) {
 
             for (int i1 = i; i1 <= j; ++i1) {
                 for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
+                    activationGrid.add(i1, j1, p);
                 }
             }
         }
+
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (int index = 0; index < activationGrid.size(); index++) {
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(activationGrid.getChunkX(index), activationGrid.getChunkZ(index));
+            if (chunk != null) {
+                activateChunkEntities(players, activationGrid.getPlayers(index), activationGrid.getPlayerCount(index), chunk, currentTick,
+                        isMainThread);
+            }
+        }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players of the world
+     * @param nearbyPlayers The indices of the players covering the chunk
+     * @param nearbyPlayerCount The amount of players covering the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current tick
+     * @param isMainThread Whether the activation state of entities can be refreshed right away
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(List<EntityPlayer> players, int[] nearbyPlayers, int nearbyPlayerCount, Chunk chunk,
+            long currentTick, boolean isMainThread) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
-                EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 final IModData_Activation spongeEntity = (IModData_Activation) entity;
-                long currentTick = SpongeImpl.getServer().getTickCounter();
+                if (currentTick <= spongeEntity.getActivatedTick()) {
+                    continue;
+                }
                 if (!((IMixinEntity) entity).shouldTick()) {
                     continue;
                 }
+                EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 if (type == EntityTypes.UNKNOWN) {
                     spongeEntity.setActivatedTick(currentTick);
                     continue;
                 }
 
-                if (currentTick > spongeEntity.getActivatedTick()) {
-                    if (spongeEntity.getDefaultActivationState()) {
+                if (spongeEntity.getDefaultActivationState()) {
+                    spongeEntity.setActivatedTick(currentTick);
+                    continue;
+                }
+
+                // check if activation cache needs to be updated
+                if (spongeEntity.requiresActivationCacheRefresh()) {
+                    if (!isMainThread) {
+                        // Keep the entity active until its state is refreshed on the server thread
+                        deferredStateRefreshes.add(entity);
                         spongeEntity.setActivatedTick(currentTick);
                         continue;
                     }
-
-                    // check if activation cache needs to be updated
-                    if (spongeEntity.requiresActivationCacheRefresh()) {
-                        EntityActivationRange.initializeEntityActivationState(entity);
-                        spongeEntity.requiresActivationCacheRefresh(false);
-                    }
-                    // check for entity type overrides
-                    byte activationType = spongeEntity.getActivationType();
-                    int bbActivationRange = spongeEntity.getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
-
-                    switch (spongeEntity.getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.requiresActivationCacheRefresh(false);
+                }
+                // check for entity type overrides
+                final int bbActivationRange = spongeEntity.getActivationRange();
+                final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                for (int p = 0; p < nearbyPlayerCount; p++) {
+                    if (isInActivationRange(players.get(nearbyPlayers[p]).getEntityBoundingBox(), entityBB, bbActivationRange)) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        break;
                     }
                 }
             }
         }
     }
 
+    /**
+     * Refreshes the activation state of the entities that were skipped by
+     * activation checks running off the server thread. Must be called on the
+     * server thread once those checks are done.
+     */
+    public static void refreshDeferredActivationStates() {
+        Entity entity;
+        while ((entity = deferredStateRefreshes.poll()) != null) {
+            final IModData_Activation spongeEntity = (IModData_Activation) entity;
+            if (spongeEntity.requiresActivationCacheRefresh()) {
+                EntityActivationRange.initializeEntityActivationState(entity);
+                spongeEntity.requiresActivationCacheRefresh(false);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the entity box intersects the player box grown by the
+     * activation range, without growing an actual box.
+     *
+     * @param playerBB The bounding box of the player
+     * @param entityBB The bounding box of the entity
+     * @param range The activation range of the entity
+     * @return True if the entity is within range
+     */
+    private static boolean isInActivationRange(AxisAlignedBB playerBB, AxisAlignedBB entityBB, int range) {
+        return entityBB.minX < playerBB.maxX + range && entityBB.maxX > playerBB.minX - range
+                && entityBB.minY < playerBB.maxY + 256 && entityBB.maxY > playerBB.minY - 256
+                && entityBB.minZ < playerBB.maxZ + range && entityBB.maxZ > playerBB.minZ - range;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
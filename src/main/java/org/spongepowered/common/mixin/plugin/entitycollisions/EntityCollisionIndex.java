@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entitycollisions;
+
+import com.google.common.base.Predicate;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A spatial hash of the loaded entities of a world, used to answer entity
+ * collision queries without walking the entity lists of every chunk section
+ * around the queried box.
+ *
+ * <p>Entities are kept in the cell that contains the center of their bounding
+ * box, and moved between cells whenever their bounding box changes. As long as
+ * an entity fits within a cell, a query only has to look at the cells within
+ * half a cell of the queried box. Entities that are larger than a cell, or that
+ * consist of multiple parts, are kept in a separate list that every query scans.</p>
+ */
+public final class EntityCollisionIndex {
+
+    // Most entities are at most two blocks wide and tall, so a cell of four
+    // blocks keeps the oversized list short without scanning too many cells.
+    private static final int CELL_SHIFT = 2;
+    private static final double CELL_SIZE = 1 << CELL_SHIFT;
+    private static final double HALF_CELL = CELL_SIZE / 2;
+
+    // Cell keys only use the lower 60 bits, so these can never collide with one
+    private static final long NONE = -1L;
+    private static final long OVERSIZED = Long.MIN_VALUE;
+
+    private final Long2ObjectOpenHashMap<List<Entity>> cells = new Long2ObjectOpenHashMap<>();
+    private final List<Entity> oversized = new ArrayList<>();
+    private final Reference2LongOpenHashMap<Entity> entityCells = new Reference2LongOpenHashMap<>();
+
+    public EntityCollisionIndex() {
+        this.entityCells.defaultReturnValue(NONE);
+    }
+
+    public void add(Entity entity) {
+        if (this.entityCells.containsKey(entity)) {
+            return;
+        }
+        final long cell = getCell(entity);
+        this.entityCells.put(entity, cell);
+        this.insert(entity, cell);
+    }
+
+    public void remove(Entity entity) {
+        final long cell = this.entityCells.removeLong(entity);
+        if (cell != NONE) {
+            this.delete(entity, cell);
+        }
+    }
+
+    /**
+     * Moves the entity to the cell of its current bounding box, if the entity
+     * is part of this index.
+     *
+     * @param entity The entity
+     */
+    public void update(Entity entity) {
+        final long previous = this.entityCells.getLong(entity);
+        if (previous == NONE) {
+            return;
+        }
+        final long cell = getCell(entity);
+        if (cell != previous) {
+            this.entityCells.put(entity, cell);
+            this.delete(entity, previous);
+            this.insert(entity, cell);
+        }
+    }
+
+    /**
+     * Collects the entities, and their parts, whose bounding boxes intersect
+     * the given box in the same way as
+     * {@link net.minecraft.world.chunk.Chunk#getEntitiesWithinAABBForEntity}.
+     *
+     * @param except The entity to exclude, if any
+     * @param aabb The box to intersect
+     * @param filter The filter the entities have to match, if any
+     * @param list The list to add the entities to
+     * @param limit The size at which the list is considered full, or a negative value for no limit
+     */
+    public void getEntities(@Nullable Entity except, AxisAlignedBB aabb, @Nullable Predicate<? super Entity> filter, List<Entity> list,
+            int limit) {
+        if (limit >= 0 && list.size() >= limit) {
+            return;
+        }
+        final int minX = MathHelper.floor(aabb.minX - HALF_CELL) >> CELL_SHIFT;
+        final int minY = MathHelper.floor(aabb.minY - HALF_CELL) >> CELL_SHIFT;
+        final int minZ = MathHelper.floor(aabb.minZ - HALF_CELL) >> CELL_SHIFT;
+        final int maxX = MathHelper.floor(aabb.maxX + HALF_CELL) >> CELL_SHIFT;
+        final int maxY = MathHelper.floor(aabb.maxY + HALF_CELL) >> CELL_SHIFT;
+        final int maxZ = MathHelper.floor(aabb.maxZ + HALF_CELL) >> CELL_SHIFT;
+        final long volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (volume > this.cells.size()) {
+            // Cheaper to look at every occupied cell than at every cell of the box
+            for (List<Entity> entities : this.cells.values()) {
+                if (collect(entities, except, aabb, filter, list, limit)) {
+                    return;
+                }
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        final List<Entity> entities = this.cells.get(pack(x, y, z));
+                        if (entities != null && collect(entities, except, aabb, filter, list, limit)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+        collect(this.oversized, except, aabb, filter, list, limit);
+    }
+
+    public int size() {
+        return this.entityCells.size();
+    }
+
+    public void clear() {
+        this.cells.clear();
+        this.oversized.clear();
+        this.entityCells.clear();
+    }
+
+    private void insert(Entity entity, long cell) {
+        if (cell == OVERSIZED) {
+            this.oversized.add(entity);
+            return;
+        }
+        List<Entity> entities = this.cells.get(cell);
+        if (entities == null) {
+            entities = new ArrayList<>(4);
+            this.cells.put(cell, entities);
+        }
+        entities.add(entity);
+    }
+
+    private void delete(Entity entity, long cell) {
+        final List<Entity> entities = cell == OVERSIZED ? this.oversized : this.cells.get(cell);
+        if (entities == null) {
+            return;
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i) == entity) {
+                // Order within a cell doesn't matter, so swap in the last entity
+                final Entity last = entities.remove(entities.size() - 1);
+                if (i < entities.size()) {
+                    entities.set(i, last);
+                }
+                break;
+            }
+        }
+        if (entities.isEmpty() && cell != OVERSIZED) {
+            this.cells.remove(cell);
+        }
+    }
+
+    /**
+     * Adds the matching entities to the list.
+     *
+     * @return True if the limit was reached
+     */
+    private static boolean collect(List<Entity> entities, @Nullable Entity except, AxisAlignedBB aabb,
+            @Nullable Predicate<? super Entity> filter, List<Entity> list, int limit) {
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity entity = entities.get(i);
+            if (entity == except || !entity.getEntityBoundingBox().intersects(aabb)) {
+                continue;
+            }
+            if (filter == null || filter.apply(entity)) {
+                if (limit >= 0 && list.size() >= limit) {
+                    return true;
+                }
+                list.add(entity);
+            }
+            final Entity[] parts = entity.getParts();
+            if (parts == null) {
+                continue;
+            }
+            for (Entity part : parts) {
+                if (part != except && part.getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply(part))) {
+                    if (limit >= 0 && list.size() >= limit) {
+                        return true;
+                    }
+                    list.add(part);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long getCell(Entity entity) {
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        if (entity.getParts() != null || bb.maxX - bb.minX > CELL_SIZE || bb.maxY - bb.minY > CELL_SIZE || bb.maxZ - bb.minZ > CELL_SIZE) {
+            return OVERSIZED;
+        }
+        return pack(MathHelper.floor((bb.minX + bb.maxX) * 0.5D) >> CELL_SHIFT,
+                MathHelper.floor((bb.minY + bb.maxY) * 0.5D) >> CELL_SHIFT,
+                MathHelper.floor((bb.minZ + bb.maxZ) * 0.5D) >> CELL_SHIFT);
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0xFFFFFFL) << 36 | ((long) z & 0xFFFFFFL) << 12 | ((long) y & 0xFFFL);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entitycollisions;
+
+import java.util.ArrayList;
+
+/**
+ * The result list of a typed entity query, which carries the maximum amount
+ * of entities the query may collect. The limit is resolved when the first
+ * entity is added, so it belongs to exactly one query and needs no cleanup if
+ * the query fails.
+ *
+ * @param <T> The type of entity
+ */
+public final class EntityCollisionList<T> extends ArrayList<T> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private int limit = UNRESOLVED;
+
+    public boolean isLimitResolved() {
+        return this.limit != UNRESOLVED;
+    }
+
+    /**
+     * Gets the maximum amount of entities of this query.
+     *
+     * @return The maximum amount of entities, or a negative value for no limit
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
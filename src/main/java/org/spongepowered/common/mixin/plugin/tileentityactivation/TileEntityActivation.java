@@ -24,13 +24,10 @@
  */
 package org.spongepowered.common.mixin.plugin.tileentityactivation;
 
-import com.flowpowered.math.vector.Vector3i;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ITickable;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -45,9 +42,7 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
-import org.spongepowered.common.util.VecHelper;
-
-import java.util.Map;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IMixinChunk_TileEntityActivation;
 
 public class TileEntityActivation {
 
@@ -122,62 +117,21 @@ public static void initializeTileEntityActivationState(TileEntity tileEntity) {
     * Find what tileentities are in range of the players in the world and set
     * active if in range.
     *
+    * <p>Each chunk watched by players is activated once, against all of its
+    * players at once, see {@link TileEntityActivationIndex}.</p>
+    *
     * @param world The world to perform activation checks in
     */
     public static void activateTileEntities(WorldServer world) {
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
-        for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
-            for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued || ((IMixinChunk) chunk).isPersistedChunk()) {
-                    continue;
-                }
-
-                activateChunkTileEntities(player, chunk);
-            }
-        }
-    }
-
-
-    /**
-     * Checks for the activation state of all tileentities in this chunk.
-     *
-     * @param chunk Chunk to check for activation
-     */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
-        final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
         final long currentTick = SpongeImpl.getServer().getTickCounter();
-        for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
-            final TileEntity tileEntity = mapEntry.getValue();
-            final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
-            if (spongeTileEntity.getSpongeTickRate() <= 0 || !((IMixinTileEntity) tileEntity).shouldTick()) {
-                // never activate
-                continue;
-            }
-            if (!(tileEntity instanceof ITickable) || spongeTileEntity.getActivatedTick() == currentTick) {
-                // already activated
+        for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (playerChunkMapEntry.players.isEmpty() || chunk == null || chunk.unloadQueued || ((IMixinChunk) chunk).isPersistedChunk()) {
                 continue;
             }
 
-            final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
-            if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
-                if (spongeTileEntity.getDefaultActivationState()) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
-                    continue;
-                }
-
-                // check if activation cache needs to be updated
-                if (spongeTileEntity.requiresActivationCacheRefresh()) {
-                    TileEntityActivation.initializeTileEntityActivationState(tileEntity);
-                    spongeTileEntity.requiresActivationCacheRefresh(false);
-                }
-
-                int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
-                int blockDistance = Math.round(tilePos.distance(playerPos));
-                if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
-                }
-            }
+            ((IMixinChunk_TileEntityActivation) chunk).getTileEntityActivationIndex().activate(playerChunkMapEntry.players, currentTick);
         }
     }
 
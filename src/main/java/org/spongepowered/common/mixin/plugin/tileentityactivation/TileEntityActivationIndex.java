@@ -0,0 +1,270 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.block.tileentity.TileEntityType;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ticking tile entities of a chunk, bucketed by their type and activation
+ * range. The bounds of each bucket allow it to be skipped or activated as a
+ * whole when no player, or any player, is within range of all its tile
+ * entities. Rebuilt whenever a tile entity of the chunk is added, removed or
+ * has its activation settings refreshed.
+ */
+public final class TileEntityActivationIndex {
+
+    // The range of tile entities which are always active
+    private static final int ALWAYS_ACTIVE = Integer.MAX_VALUE;
+
+    // The block positions of the players of the chunk being activated, reused between the chunks of a thread
+    private static final ThreadLocal<PlayerPositions> playerPositions = ThreadLocal.withInitial(PlayerPositions::new);
+
+    private final Chunk chunk;
+    private final List<Bucket> buckets = new ArrayList<>();
+    private boolean dirty = true;
+    private int tileEntityCount;
+    private long lastActivatedTick = Long.MIN_VALUE;
+
+    public TileEntityActivationIndex(Chunk chunk) {
+        this.chunk = chunk;
+    }
+
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Activates the tile entities within range of the given players, which
+     * are the players watching the chunk.
+     *
+     * @param players The players watching the chunk
+     * @param currentTick The current tick
+     */
+    void activate(List<EntityPlayerMP> players, long currentTick) {
+        // Additions through any path change the size of the map, removals invalidate the tile entity
+        if (this.dirty || this.chunk.getTileEntityMap().size() != this.tileEntityCount) {
+            this.rebuild();
+        }
+        this.lastActivatedTick = currentTick;
+        if (this.buckets.isEmpty()) {
+            return;
+        }
+
+        final int playerCount = players.size();
+        final PlayerPositions positions = playerPositions.get();
+        if (positions.x.length < playerCount) {
+            positions.x = Arrays.copyOf(positions.x, playerCount * 2);
+            positions.y = Arrays.copyOf(positions.y, playerCount * 2);
+            positions.z = Arrays.copyOf(positions.z, playerCount * 2);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            // Same as EntityPlayer#getPosition
+            final EntityPlayerMP player = players.get(i);
+            positions.x[i] = MathHelper.floor(player.posX);
+            positions.y[i] = MathHelper.floor(player.posY + 0.5D);
+            positions.z[i] = MathHelper.floor(player.posZ);
+        }
+
+        for (Bucket bucket : this.buckets) {
+            bucket.activate(positions, playerCount, currentTick);
+        }
+    }
+
+    private void rebuild() {
+        this.dirty = false;
+        this.buckets.clear();
+        this.tileEntityCount = this.chunk.getTileEntityMap().size();
+        for (TileEntity tileEntity : this.chunk.getTileEntityMap().values()) {
+            if (!(tileEntity instanceof ITickable) || tileEntity.isInvalid()) {
+                continue;
+            }
+            final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+            // check if activation cache needs to be updated
+            if (spongeTileEntity.requiresActivationCacheRefresh()) {
+                TileEntityActivation.initializeTileEntityActivationState(tileEntity);
+                spongeTileEntity.requiresActivationCacheRefresh(false);
+            }
+            final TileEntityType type = ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType();
+            final int range = spongeTileEntity.getDefaultActivationState() ? ALWAYS_ACTIVE : spongeTileEntity.getActivationRange();
+            this.getBucket(type, range).add(tileEntity);
+        }
+    }
+
+    private Bucket getBucket(TileEntityType type, int range) {
+        // Rebuilt rarely and chunks hold few types, a linear search is fine
+        for (Bucket bucket : this.buckets) {
+            if (bucket.type == type && bucket.range == range) {
+                return bucket;
+            }
+        }
+        final Bucket bucket = new Bucket(type, range);
+        this.buckets.add(bucket);
+        return bucket;
+    }
+
+    /**
+     * Gets the amount of active and inactive ticking tile entities of each
+     * type as of the last activation of this chunk.
+     *
+     * @param currentTick The current tick
+     * @return The active and inactive counts by type
+     */
+    public Map<TileEntityType, int[]> getActivationCounts(long currentTick) {
+        final Map<TileEntityType, int[]> counts = new HashMap<>();
+        // Chunks no player watches aren't activated at all
+        final boolean recent = this.lastActivatedTick >= currentTick - 1;
+        for (Bucket bucket : this.buckets) {
+            final int[] typeCounts = counts.computeIfAbsent(bucket.type, type -> new int[2]);
+            final int active = recent ? bucket.activeCount : 0;
+            typeCounts[0] += active;
+            typeCounts[1] += bucket.tileEntities.size() - active;
+        }
+        return counts;
+    }
+
+    private static final class PlayerPositions {
+
+        int[] x = new int[8];
+        int[] y = new int[8];
+        int[] z = new int[8];
+    }
+
+    private static final class Bucket {
+
+        final TileEntityType type;
+        final int range;
+        final List<TileEntity> tileEntities = new ArrayList<>();
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        int activeCount;
+
+        Bucket(TileEntityType type, int range) {
+            this.type = type;
+            this.range = range;
+        }
+
+        void add(TileEntity tileEntity) {
+            this.tileEntities.add(tileEntity);
+            final BlockPos pos = tileEntity.getPos();
+            this.minX = Math.min(this.minX, pos.getX());
+            this.minY = Math.min(this.minY, pos.getY());
+            this.minZ = Math.min(this.minZ, pos.getZ());
+            this.maxX = Math.max(this.maxX, pos.getX());
+            this.maxY = Math.max(this.maxY, pos.getY());
+            this.maxZ = Math.max(this.maxZ, pos.getZ());
+        }
+
+        void activate(PlayerPositions positions, int playerCount, long currentTick) {
+            this.activeCount = 0;
+            if (this.range == ALWAYS_ACTIVE) {
+                this.activateAll(currentTick);
+                return;
+            }
+            if (this.range < 0) {
+                // Rounded distances are never negative
+                return;
+            }
+            // Math.round(distance) <= range is the same as distance < range + 0.5
+            final double limit = (this.range + 0.5D) * (this.range + 0.5D);
+            boolean inRange = false;
+            for (int i = 0; i < playerCount; i++) {
+                final int x = positions.x[i];
+                final int y = positions.y[i];
+                final int z = positions.z[i];
+                if (distanceSquared(outside(x, this.minX, this.maxX), outside(y, this.minY, this.maxY), outside(z, this.minZ, this.maxZ))
+                        < limit) {
+                    if (distanceSquared(farthest(x, this.minX, this.maxX), farthest(y, this.minY, this.maxY), farthest(z, this.minZ, this.maxZ))
+                            < limit) {
+                        this.activateAll(currentTick);
+                        return;
+                    }
+                    inRange = true;
+                }
+            }
+            if (!inRange) {
+                return;
+            }
+            for (TileEntity tileEntity : this.tileEntities) {
+                if (!canActivate(tileEntity, currentTick)) {
+                    continue;
+                }
+                final BlockPos pos = tileEntity.getPos();
+                for (int i = 0; i < playerCount; i++) {
+                    if (distanceSquared(pos.getX() - positions.x[i], pos.getY() - positions.y[i], pos.getZ() - positions.z[i]) < limit) {
+                        ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                        this.activeCount++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void activateAll(long currentTick) {
+            for (TileEntity tileEntity : this.tileEntities) {
+                if (canActivate(tileEntity, currentTick)) {
+                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                    this.activeCount++;
+                }
+            }
+        }
+
+        private static boolean canActivate(TileEntity tileEntity, long currentTick) {
+            final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+            // never activate, or already activated
+            return spongeTileEntity.getSpongeTickRate() > 0 && ((IMixinTileEntity) tileEntity).shouldTick()
+                    && currentTick > spongeTileEntity.getActivatedTick();
+        }
+
+        private static int outside(int value, int min, int max) {
+            return value < min ? min - value : value > max ? value - max : 0;
+        }
+
+        private static int farthest(int value, int min, int max) {
+            return Math.max(Math.abs(value - min), Math.abs(value - max));
+        }
+
+        private static double distanceSquared(double x, double y, double z) {
+            return x * x + y * y + z * z;
+        }
+    }
+}
@@ -22,17 +22,12 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.util;
+package org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces;
 
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivationIndex;
 
-public class QueuedChunk {
-    public ChunkPos coords;
-    public NBTTagCompound compound;
+public interface IMixinChunk_TileEntityActivation {
+
+    TileEntityActivationIndex getTileEntityActivationIndex();
 
-    public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
-        this.coords = coords;
-        this.compound = compound;
-    }
 }
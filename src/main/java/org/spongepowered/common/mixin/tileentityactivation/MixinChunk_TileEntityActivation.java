@@ -40,12 +40,26 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivationIndex;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IMixinChunk_TileEntityActivation;
+
+import javax.annotation.Nullable;
 
 @Mixin(Chunk.class)
-public class MixinChunk_TileEntityActivation {
+public class MixinChunk_TileEntityActivation implements IMixinChunk_TileEntityActivation {
 
     @Shadow @Final private World world;
 
+    @Nullable private TileEntityActivationIndex tileEntityActivationIndex;
+
+    @Override
+    public TileEntityActivationIndex getTileEntityActivationIndex() {
+        if (this.tileEntityActivationIndex == null) {
+            this.tileEntityActivationIndex = new TileEntityActivationIndex((Chunk) (Object) this);
+        }
+        return this.tileEntityActivationIndex;
+    }
+
     @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At("RETURN"))
     private void onAddTileEntityActivateCheck(BlockPos pos, net.minecraft.tileentity.TileEntity tileEntityIn, CallbackInfo ci) {
         if (tileEntityIn.getWorld() == null) {
@@ -26,7 +26,13 @@
 
 import net.minecraft.tileentity.TileEntity;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IMixinChunk_TileEntityActivation;
 
 @Mixin(TileEntity.class)
 public class MixinTileEntity_Activation implements IModData_Activation {
@@ -100,6 +106,22 @@ public void setActivationRange(int range) {
     @Override
     public void requiresActivationCacheRefresh(boolean flag) {
         this.refreshCache = flag;
+        if (flag) {
+            this.markActivationIndexDirty();
+        }
+    }
+
+    // Before the active chunk is cleared
+    @Inject(method = "invalidate", at = @At("HEAD"))
+    private void onInvalidateActivation(CallbackInfo ci) {
+        this.markActivationIndexDirty();
+    }
+
+    private void markActivationIndexDirty() {
+        final IMixinChunk chunk = ((IMixinTileEntity) this).getActiveChunk();
+        if (chunk instanceof IMixinChunk_TileEntityActivation) {
+            ((IMixinChunk_TileEntityActivation) chunk).getTileEntityActivationIndex().markDirty();
+        }
     }
 
     @Override
@@ -39,6 +39,8 @@
 import org.spongepowered.api.entity.EntityTypes;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IMixinChunk_TileEntityActivation;
 
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
@@ -110,7 +112,9 @@ public class TimingHistory {
                     data.tileEntityCounts.get(tileEntity.getType()).increment();
                 }
 
-                if (data.tileEntityCounts.isEmpty() && data.entityCounts.isEmpty()) {
+                final int pendingBlockUpdates = ((IMixinWorldServer) world).getPendingBlockUpdateCount(chunk.getPosition().getX(),
+                        chunk.getPosition().getZ());
+                if (data.tileEntityCounts.isEmpty() && data.entityCounts.isEmpty() && pendingBlockUpdates == 0) {
                     return null;
                 }
                 return JSONUtil.arrayOf(
@@ -126,7 +130,16 @@ public class TimingHistory {
                         JSONUtil.mapArrayToObject(data.tileEntityCounts.entrySet(), (entry) -> {
                             this.tileEntityTypeSet.add(entry.getKey());
                             return JSONUtil.singleObjectPair(TimingsPls.getTileEntityId(entry.getKey()), entry.getValue().count());
-                        }));
+                        }),
+                        pendingBlockUpdates,
+                        // The active and inactive ticking tile entities of each type, if tile entity activation is enabled
+                        !(chunk instanceof IMixinChunk_TileEntityActivation) ? null : JSONUtil.mapArrayToObject(
+                                ((IMixinChunk_TileEntityActivation) chunk).getTileEntityActivationIndex()
+                                        .getActivationCounts(SpongeImpl.getServer().getTickCounter()).entrySet(), (entry) -> {
+                                    this.tileEntityTypeSet.add(entry.getKey());
+                                    return JSONUtil.singleObjectPair(TimingsPls.getTileEntityId(entry.getKey()),
+                                            JSONUtil.arrayOf(entry.getValue()[0], entry.getValue()[1]));
+                                }));
             }));
         });
     }
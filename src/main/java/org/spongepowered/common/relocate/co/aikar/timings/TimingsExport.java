@@ -47,6 +47,7 @@
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -201,6 +202,11 @@ static void reportTimings() {
             ).build();
         }));
 
+        // Block changes per phase state, [captured, elided because nothing could observe them]
+        JsonObjectBuilder blockCapturesBuilder = JSONUtil.objectBuilder();
+        PhaseTracker.getInstance().getBlockCaptureCounter().forEach((state, counts) -> blockCapturesBuilder.add(state, JSONUtil.arrayOf(counts[0], counts[1])));
+        builder.add("blockcaptures", blockCapturesBuilder);
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
@@ -30,6 +30,7 @@
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.relocate.co.aikar.util.LoadingMap;
 
 import java.util.ArrayDeque;
@@ -122,6 +123,7 @@ static void resetTimings() {
                 SpongeImpl.getLogger().info("Timings reset");
             }
             HISTORY.clear();
+            PhaseTracker.getInstance().getBlockCaptureCounter().reset();
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
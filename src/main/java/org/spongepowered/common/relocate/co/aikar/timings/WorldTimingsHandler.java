@@ -66,6 +66,7 @@ public class WorldTimingsHandler {
     public final Timing syncChunkLoadTileEntitiesTimer;
     public final Timing syncChunkLoadTileTicksTimer;
     public final Timing syncChunkLoadPostTimer;
+    public final Timing asyncChunkLoadTimer;
 
     // Tracking
     public final Timing causeTrackerBlockTimer;
@@ -108,6 +109,7 @@ public WorldTimingsHandler(World world) {
         this.syncChunkLoadTileEntitiesTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - TileEntities");
         this.syncChunkLoadTileTicksTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - TileTicks");
         this.syncChunkLoadPostTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - Post");
+        this.asyncChunkLoadTimer = SpongeTimingsFactory.ofSafe(name + "asyncChunkLoad");
 
         this.tracker1 = SpongeTimingsFactory.ofSafe(name + "tracker stage 1");
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
@@ -24,12 +24,9 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -37,14 +34,17 @@
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
+    // The size of a timing wheel slot, in nanoseconds (~1ms)
+    private static final int SLOT_SHIFT = 20;
+    private static final long SLOT_NANOS = 1L << SLOT_SHIFT;
+
+    // The time slot zero of the timing wheel starts at
+    private final long epoch = System.nanoTime();
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The executor of asynchronous tasks, accounting tasks per plugin.
+    private final AsyncTaskExecutor executor = AsyncTaskExecutor.create(SpongeImpl.getGlobalConfig().getConfig().getScheduler());
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -55,61 +55,51 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
+    AsyncTaskExecutor getExecutor() {
         return this.executor;
     }
 
+    List<PluginTaskMetrics> getMetrics() {
+        return this.executor.getMetrics();
+    }
+
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
-            recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
+    @Override
+    protected long getCurrentSlot() {
+        return (System.nanoTime() - this.epoch) >> SLOT_SHIFT;
+    }
 
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
+    @Override
+    protected long getDeadlineSlot(ScheduledTask task) {
+        final long threshold = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.offset : task.period;
+        final long deadline = task.getTimestamp() + threshold - this.epoch;
+        // Round up, so a task is never processed before it is due
+        return deadline <= 0 ? 0 : (deadline + SLOT_NANOS - 1) >> SLOT_SHIFT;
     }
 
     @Override
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // Park until the next slot with work is reached, or until a new
+            // task is added. The lock is held while checking for new tasks,
+            // so an addition can't slip in before the wait starts.
+            if (!this.hasPendingTasks()) {
+                final long nextSlot = this.getNextSlot();
+                if (nextSlot == Long.MAX_VALUE) {
+                    this.condition.await();
+                } else {
+                    final long timeout = this.epoch + (nextSlot << SLOT_SHIFT) - System.nanoTime();
+                    if (timeout > 0) {
+                        this.condition.await(timeout, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -118,11 +108,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -130,7 +115,10 @@ protected void finallyPostTick() {
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        if (!this.executor.execute(task, runnable)) {
+            SpongeImpl.getLogger().warn("The Scheduler could not run the task {} owned by {}, as the async queue of the plugin is full.{}",
+                task.getName(), task.getOwner().getId(), task.period > 0 ? " It will be retried on its next run." : "");
+        }
     }
 
     @Override
@@ -0,0 +1,300 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The executor running the asynchronous tasks of all plugins.
+ *
+ * <p>Tasks are accounted per plugin, which allows to limit the amount of
+ * tasks a single plugin can run or queue at once, and to collect metrics
+ * about the tasks of each plugin. The limits only apply when the bounded
+ * executor is enabled in the {@link SchedulerCategory}, otherwise all tasks
+ * are handed to an unbounded cached thread pool as they come in.</p>
+ *
+ * <p>The tasks of Sponge itself are accounted separately and are never
+ * limited, so they don't compete with plugins for a quota.</p>
+ */
+final class AsyncTaskExecutor {
+
+    private final ExecutorService pool;
+    private final int maxConcurrentTasks;
+    private final int maxQueuedTasks;
+    private final int sampleSize;
+    private final Map<PluginContainer, PluginQueue> queues = new ConcurrentHashMap<>();
+    private final PluginContainer internalPlugin;
+    private final PluginQueue internalQueue;
+
+    AsyncTaskExecutor(ExecutorService pool, PluginContainer internalPlugin, int maxConcurrentTasks, int maxQueuedTasks, int sampleSize) {
+        this.pool = pool;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.sampleSize = sampleSize;
+        this.internalPlugin = internalPlugin;
+        this.internalQueue = new PluginQueue(internalPlugin, 0, 0);
+    }
+
+    static AsyncTaskExecutor create(SchedulerCategory config) {
+        if (!config.useBoundedExecutor()) {
+            return new AsyncTaskExecutor(Executors.newCachedThreadPool(), SpongeImpl.getPlugin(), 0, 0, config.getLatencySampleSize());
+        }
+        final int poolSize = config.getPoolSize() > 0 ? config.getPoolSize() : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadId = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(poolSize, forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("Sponge Async Scheduler Worker #" + threadId.getAndIncrement());
+            return thread;
+        }, (thread, throwable) -> SpongeImpl.getLogger().error("An uncaught exception occurred on {}", thread.getName(), throwable), true);
+        return new AsyncTaskExecutor(pool, SpongeImpl.getPlugin(), config.getMaxConcurrentTasksPerPlugin(),
+                config.getMaxQueuedTasksPerPlugin(), config.getLatencySampleSize());
+    }
+
+    /**
+     * Submits a task on behalf of the plugin.
+     *
+     * @param plugin The plugin owning the task
+     * @param runnable The task
+     * @throws RejectedExecutionException If the queue of the plugin is full
+     */
+    void execute(PluginContainer plugin, Runnable runnable) {
+        this.getQueue(plugin).submit(runnable);
+    }
+
+    /**
+     * Submits a run of the scheduled task. If the queue of its owner is full,
+     * a repeating task is retried once its next period is due, while a
+     * one-shot task is cancelled and its rejection handler notified.
+     *
+     * @param task The scheduled task
+     * @param runnable The run of the task
+     * @return False if the run was rejected
+     */
+    boolean execute(ScheduledTask task, Runnable runnable) {
+        try {
+            this.execute(task.getOwner(), runnable);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // The runnable would have set the task to running, without that it would never be due again
+            if (task.period > 0) {
+                task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            } else {
+                task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+                task.reject(e);
+            }
+            return false;
+        }
+    }
+
+    private PluginQueue getQueue(PluginContainer plugin) {
+        if (plugin == this.internalPlugin) {
+            return this.internalQueue;
+        }
+        return this.queues.computeIfAbsent(plugin, key -> new PluginQueue(key, this.maxConcurrentTasks, this.maxQueuedTasks));
+    }
+
+    PluginTaskMetrics getMetrics(PluginContainer plugin) {
+        final PluginQueue queue = plugin == this.internalPlugin ? this.internalQueue : this.queues.get(plugin);
+        if (queue == null) {
+            return new PluginTaskMetrics(plugin, 0, 0, 0, 0, new long[3], new long[3], this.getPoolActiveThreads(), this.getPoolQueuedTasks());
+        }
+        return queue.getMetrics();
+    }
+
+    List<PluginTaskMetrics> getMetrics() {
+        final ImmutableList.Builder<PluginTaskMetrics> metrics = ImmutableList.builder();
+        metrics.add(this.internalQueue.getMetrics());
+        for (PluginQueue queue : this.queues.values()) {
+            metrics.add(queue.getMetrics());
+        }
+        return metrics.build();
+    }
+
+    private int getPoolActiveThreads() {
+        if (this.pool instanceof ForkJoinPool) {
+            return ((ForkJoinPool) this.pool).getActiveThreadCount();
+        } else if (this.pool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) this.pool).getActiveCount();
+        }
+        return 0;
+    }
+
+    private long getPoolQueuedTasks() {
+        if (this.pool instanceof ForkJoinPool) {
+            final ForkJoinPool forkJoinPool = (ForkJoinPool) this.pool;
+            return forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount();
+        } else if (this.pool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) this.pool).getQueue().size();
+        }
+        return 0;
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final long submitted;
+
+        QueuedTask(Runnable runnable, long submitted) {
+            this.runnable = runnable;
+            this.submitted = submitted;
+        }
+    }
+
+    private final class PluginQueue {
+
+        private final PluginContainer plugin;
+        // The limits of the plugin, 0 if unlimited
+        private final int maxConcurrent;
+        private final int maxQueued;
+        // Tasks held back because the plugin reached its concurrency quota
+        private final Queue<QueuedTask> waiting = new ConcurrentLinkedQueue<>();
+        // Tasks submitted that did not start yet, including those handed to the pool
+        private final AtomicInteger pending = new AtomicInteger();
+        // Tasks handed to the pool, each holding one slot of the quota
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final LatencySampler waitTimes = new LatencySampler(AsyncTaskExecutor.this.sampleSize);
+        private final LatencySampler runTimes = new LatencySampler(AsyncTaskExecutor.this.sampleSize);
+
+        PluginQueue(PluginContainer plugin, int maxConcurrent, int maxQueued) {
+            this.plugin = plugin;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        }
+
+        void submit(Runnable runnable) {
+            if (!this.reserve()) {
+                // Never run the task on the caller, that is either the scheduler thread or the server thread
+                this.rejected.incrementAndGet();
+                throw new RejectedExecutionException("The async task queue of " + this.plugin.getId() + " is full");
+            }
+            final QueuedTask task = new QueuedTask(runnable, System.nanoTime());
+            if (this.tryAcquire()) {
+                this.dispatch(task);
+                return;
+            }
+            this.waiting.add(task);
+            // A slot may have been released while the task was being queued
+            this.dispatchWaiting();
+        }
+
+        // Reserves a place in the queue, tasks may be submitted by multiple threads at once
+        private boolean reserve() {
+            final int max = this.maxQueued;
+            if (max <= 0) {
+                this.pending.incrementAndGet();
+                return true;
+            }
+            int current;
+            do {
+                current = this.pending.get();
+                if (current >= max) {
+                    return false;
+                }
+            } while (!this.pending.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private boolean tryAcquire() {
+            final int max = this.maxConcurrent;
+            if (max <= 0) {
+                this.active.incrementAndGet();
+                return true;
+            }
+            int current;
+            do {
+                current = this.active.get();
+                if (current >= max) {
+                    return false;
+                }
+            } while (!this.active.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void dispatchWaiting() {
+            while (!this.waiting.isEmpty() && this.tryAcquire()) {
+                final QueuedTask next = this.waiting.poll();
+                if (next == null) {
+                    this.active.decrementAndGet();
+                } else {
+                    this.dispatch(next);
+                }
+            }
+        }
+
+        private void dispatch(QueuedTask task) {
+            AsyncTaskExecutor.this.pool.execute(() -> {
+                try {
+                    this.run(task);
+                } finally {
+                    // Hand the slot over to the next waiting task, if any
+                    final QueuedTask next = this.waiting.poll();
+                    if (next != null) {
+                        this.dispatch(next);
+                    } else {
+                        this.active.decrementAndGet();
+                        this.dispatchWaiting();
+                    }
+                }
+            });
+        }
+
+        private void run(QueuedTask task) {
+            final long start = System.nanoTime();
+            this.pending.decrementAndGet();
+            this.waitTimes.record(start - task.submitted);
+            try {
+                task.runnable.run();
+            } finally {
+                this.runTimes.record(System.nanoTime() - start);
+                this.completed.incrementAndGet();
+            }
+        }
+
+        PluginTaskMetrics getMetrics() {
+            return new PluginTaskMetrics(this.plugin, this.pending.get(), this.active.get(), this.completed.get(), this.rejected.get(),
+                    this.waitTimes.getPercentiles(), this.runTimes.getPercentiles(), AsyncTaskExecutor.this.getPoolActiveThreads(),
+                    AsyncTaskExecutor.this.getPoolQueuedTasks());
+        }
+    }
+}
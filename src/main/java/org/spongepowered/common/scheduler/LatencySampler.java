@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the most recent samples of a latency in a ring buffer, to compute
+ * percentiles over them on demand.
+ */
+final class LatencySampler {
+
+    private static final int[] PERCENTILES = {50, 95, 99};
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    LatencySampler(int size) {
+        this.samples = new AtomicLongArray(Math.max(size, 1));
+    }
+
+    static int indexOf(int percentile) {
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            if (PERCENTILES[i] == percentile) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported percentile: " + percentile);
+    }
+
+    void record(long nanos) {
+        final long index = this.count.getAndIncrement();
+        this.samples.set((int) (index % this.samples.length()), nanos);
+    }
+
+    /**
+     * Computes the 50th, 95th and 99th percentiles of the recorded samples.
+     *
+     * @return The percentiles, all zero if nothing was recorded yet
+     */
+    long[] getPercentiles() {
+        final int size = (int) Math.min(this.count.get(), this.samples.length());
+        final long[] result = new long[PERCENTILES.length];
+        if (size == 0) {
+            return result;
+        }
+        final long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = this.samples.get(i);
+        }
+        Arrays.sort(sorted);
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            final int rank = (int) Math.ceil(PERCENTILES[i] / 100.0 * size) - 1;
+            result[i] = sorted[Math.max(rank, 0)];
+        }
+        return result;
+    }
+}
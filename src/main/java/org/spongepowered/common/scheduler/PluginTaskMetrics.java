@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A snapshot of the asynchronous task execution statistics of a plugin.
+ *
+ * <p>Latencies are expressed in nanoseconds and computed over the most
+ * recently executed tasks of the plugin.</p>
+ */
+public final class PluginTaskMetrics {
+
+    private final PluginContainer plugin;
+    private final int queuedTasks;
+    private final int activeTasks;
+    private final long completedTasks;
+    private final long rejectedTasks;
+    private final long[] waitPercentiles;
+    private final long[] runPercentiles;
+    private final int poolActiveThreads;
+    private final long poolQueuedTasks;
+
+    PluginTaskMetrics(PluginContainer plugin, int queuedTasks, int activeTasks, long completedTasks, long rejectedTasks,
+            long[] waitPercentiles, long[] runPercentiles, int poolActiveThreads, long poolQueuedTasks) {
+        this.plugin = plugin;
+        this.queuedTasks = queuedTasks;
+        this.activeTasks = activeTasks;
+        this.completedTasks = completedTasks;
+        this.rejectedTasks = rejectedTasks;
+        this.waitPercentiles = waitPercentiles;
+        this.runPercentiles = runPercentiles;
+        this.poolActiveThreads = poolActiveThreads;
+        this.poolQueuedTasks = poolQueuedTasks;
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the amount of tasks of the plugin that were submitted but did not
+     * start running yet.
+     *
+     * @return The queue length
+     */
+    public int getQueuedTasks() {
+        return this.queuedTasks;
+    }
+
+    /**
+     * Gets the amount of tasks of the plugin that are currently handed to the
+     * executor.
+     *
+     * @return The active task count
+     */
+    public int getActiveTasks() {
+        return this.activeTasks;
+    }
+
+    public long getCompletedTasks() {
+        return this.completedTasks;
+    }
+
+    /**
+     * Gets the amount of tasks that were rejected because the queue of the
+     * plugin was full.
+     *
+     * @return The rejected task count
+     */
+    public long getRejectedTasks() {
+        return this.rejectedTasks;
+    }
+
+    /**
+     * Gets the time tasks waited between being submitted and being started.
+     *
+     * @param percentile The percentile, one of 50, 95 or 99
+     * @return The wait time, in nanoseconds
+     */
+    public long getWaitTime(int percentile) {
+        return this.waitPercentiles[LatencySampler.indexOf(percentile)];
+    }
+
+    /**
+     * Gets the time tasks took to run.
+     *
+     * @param percentile The percentile, one of 50, 95 or 99
+     * @return The run time, in nanoseconds
+     */
+    public long getRunTime(int percentile) {
+        return this.runPercentiles[LatencySampler.indexOf(percentile)];
+    }
+
+    /**
+     * Gets the amount of threads of the whole async executor that are
+     * currently running tasks.
+     *
+     * @return The active thread count
+     */
+    public int getPoolActiveThreads() {
+        return this.poolActiveThreads;
+    }
+
+    /**
+     * Gets the amount of tasks waiting in the queue of the whole async
+     * executor, not including tasks held back by plugin quotas.
+     *
+     * @return The pool queue length
+     */
+    public long getPoolQueuedTasks() {
+        return this.poolQueuedTasks;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("queued", this.queuedTasks)
+                .add("active", this.activeTasks)
+                .add("completed", this.completedTasks)
+                .add("rejected", this.rejectedTasks)
+                .add("waitP50", this.waitPercentiles[0])
+                .add("waitP99", this.waitPercentiles[2])
+                .add("runP50", this.runPercentiles[0])
+                .add("runP99", this.runPercentiles[2])
+                .toString();
+    }
+}
@@ -34,8 +34,11 @@
 
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +57,15 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // The node of this task in the timing wheel of its scheduler
+    final TimingWheel.Entry<ScheduledTask> wheelEntry = new TimingWheel.Entry<>(this);
+    // The nano time a task of the synchronous scheduler with a wall-clock delay or interval is next due at
+    long clockDeadline;
+    @Nullable private SchedulerBase scheduler;
+    // Notified if this one-shot task is dropped because the executor rejected it,
+    // the rejection is kept until a handler is set
+    @Nullable private Consumer<RejectedExecutionException> rejectionHandler;
+    @Nullable private RejectedExecutionException rejection;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -128,11 +140,15 @@ public long getInterval() {
 
     @Override
     public boolean cancel() {
+        final boolean wasCancelled = this.getState() == ScheduledTask.ScheduledTaskState.CANCELED;
         boolean success = false;
         if (this.getState() != ScheduledTask.ScheduledTaskState.RUNNING) {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (!wasCancelled && this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -178,6 +194,26 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    synchronized void setRejectionHandler(Consumer<RejectedExecutionException> handler) {
+        this.rejectionHandler = handler;
+        // The task may have been rejected before the handler was set
+        if (this.rejection != null) {
+            handler.accept(this.rejection);
+        }
+    }
+
+    synchronized void reject(RejectedExecutionException e) {
+        if (this.rejectionHandler != null) {
+            this.rejectionHandler.accept(e);
+        } else {
+            this.rejection = e;
+        }
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
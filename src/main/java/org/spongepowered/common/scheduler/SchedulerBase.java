@@ -37,8 +37,10 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.annotation.Nullable;
 
@@ -46,6 +48,11 @@ abstract class SchedulerBase {
 
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added or cancelled since the last tick, handed to the wheel by the ticking thread
+    private final Queue<ScheduledTask> pendingAdditions = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTask> pendingRemovals = new ConcurrentLinkedQueue<>();
+    // The tasks ordered by the slot they are next due in, only accessed by the ticking thread
+    private final TimingWheel<ScheduledTask> wheel = new TimingWheel<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -72,6 +79,46 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets the slot of the timing wheel the scheduler is currently at, all
+     * tasks due in this slot or earlier will be processed on the next call
+     * to {@link #runTick}.
+     *
+     * @return The current slot
+     */
+    protected abstract long getCurrentSlot();
+
+    /**
+     * Gets the slot of the timing wheel in which the task should next be
+     * processed, based on the timestamp and state of the task. A task may be
+     * placed in a slot before it is actually due, it will be checked again
+     * and rescheduled when the slot is reached.
+     *
+     * @param task The task
+     * @return The slot the task is due in
+     */
+    protected abstract long getDeadlineSlot(ScheduledTask task);
+
+    /**
+     * Gets the earliest slot in which a scheduled task needs attention. Tasks
+     * added since the last tick are not taken into account.
+     *
+     * @return The next slot, or {@link Long#MAX_VALUE} if there are no tasks
+     */
+    protected long getNextSlot() {
+        return this.wheel.getNextSlot();
+    }
+
+    /**
+     * Gets whether tasks were added since the last tick that are not yet
+     * scheduled in the timing wheel.
+     *
+     * @return Whether there are pending tasks
+     */
+    protected boolean hasPendingTasks() {
+        return !this.pendingAdditions.isEmpty();
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -80,7 +127,9 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.pendingAdditions.add(task);
     }
 
     /**
@@ -92,6 +141,16 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task owned by this scheduler was cancelled, the task is
+     * removed from the timing wheel on the next tick.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        this.pendingRemovals.add(task);
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -103,13 +162,14 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.drainPendingTasks();
+            this.processDueTasks();
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -117,6 +177,48 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void drainPendingTasks() {
+        ScheduledTask task;
+        while ((task = this.pendingRemovals.poll()) != null) {
+            this.unscheduleTask(task);
+            this.removeTask(task);
+        }
+        while ((task = this.pendingAdditions.poll()) != null) {
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+                continue;
+            }
+            this.scheduleTask(task);
+        }
+    }
+
+    /**
+     * Schedules the task to be processed once it may be due, in the slot of
+     * the timing wheel given by {@link #getDeadlineSlot}.
+     *
+     * @param task The task to schedule
+     */
+    protected void scheduleTask(ScheduledTask task) {
+        this.wheel.schedule(task.wheelEntry, this.getDeadlineSlot(task));
+    }
+
+    /**
+     * Removes the task from the tasks waiting to be processed.
+     *
+     * @param task The task to unschedule
+     * @return Whether the task was scheduled
+     */
+    protected boolean unscheduleTask(ScheduledTask task) {
+        return this.wheel.cancel(task.wheelEntry);
+    }
+
+    /**
+     * Processes all scheduled tasks which may be due.
+     */
+    protected void processDueTasks() {
+        this.wheel.advance(this.getCurrentSlot(), this::processTask);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -137,7 +239,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which slot in the timing wheel has been reached.
      *
      * @param task The task to process
      */
@@ -170,8 +272,12 @@ protected void processTask(ScheduledTask task) {
             // If task is one time shot, remove it from the map.
             if (task.period == 0L) {
                 this.removeTask(task);
+                return;
             }
         }
+        // Either the task repeats, or it was placed in a slot before it was
+        // actually due, so wait for the next slot it may run in.
+        this.scheduleTask(task);
     }
 
     /**
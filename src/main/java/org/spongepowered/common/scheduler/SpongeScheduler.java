@@ -43,6 +43,7 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinInventoryPlayer;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -199,7 +200,27 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return Functional.asyncFailableFuture(callable, runnable -> this.asyncScheduler.getExecutor().execute(SpongeImpl.getPlugin(), runnable));
+    }
+
+    /**
+     * Gets the asynchronous task execution metrics of the plugin.
+     *
+     * @param plugin The plugin
+     * @return The metrics
+     */
+    public PluginTaskMetrics getAsyncTaskMetrics(PluginContainer plugin) {
+        return this.asyncScheduler.getExecutor().getMetrics(plugin);
+    }
+
+    /**
+     * Gets the asynchronous task execution metrics of Sponge itself and of
+     * every plugin that submitted asynchronous tasks.
+     *
+     * @return The metrics
+     */
+    public List<PluginTaskMetrics> getAsyncTaskMetrics() {
+        return this.asyncScheduler.getMetrics();
     }
 
     public Future<?> callSync(Runnable runnable) {
@@ -28,12 +28,21 @@
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
 import javax.annotation.Nullable;
 
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // The tasks with a wall-clock delay or interval, ordered by the time they are due at. Ticks
+    // don't have a fixed length, so these are checked against the clock on every tick instead.
+    private final PriorityQueue<ScheduledTask> clockTasks = new PriorityQueue<>(Comparator.comparingLong(task -> task.clockDeadline));
+    private final List<ScheduledTask> dueClockTasks = new ArrayList<>();
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -65,6 +74,48 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected long getCurrentSlot() {
+        return this.counter;
+    }
+
+    @Override
+    protected long getDeadlineSlot(ScheduledTask task) {
+        // Only tick based tasks are placed in the timing wheel
+        final long threshold = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.offset : task.period;
+        return task.getTimestamp() + threshold;
+    }
+
+    @Override
+    protected void scheduleTask(ScheduledTask task) {
+        final boolean waiting = task.getState() == ScheduledTask.ScheduledTaskState.WAITING;
+        if (waiting ? task.delayIsTicks : task.intervalIsTicks) {
+            super.scheduleTask(task);
+            return;
+        }
+        task.clockDeadline = task.getTimestamp() + (waiting ? task.offset : task.period);
+        this.clockTasks.add(task);
+    }
+
+    @Override
+    protected boolean unscheduleTask(ScheduledTask task) {
+        return super.unscheduleTask(task) || this.clockTasks.remove(task);
+    }
+
+    @Override
+    protected void processDueTasks() {
+        super.processDueTasks();
+        final long now = System.nanoTime();
+        // Collect the due tasks first, repeating tasks are added to the queue again while processed
+        while (!this.clockTasks.isEmpty() && this.clockTasks.peek().clockDeadline - now <= 0) {
+            this.dueClockTasks.add(this.clockTasks.poll());
+        }
+        for (int i = 0; i < this.dueClockTasks.size(); i++) {
+            this.processTask(this.dueClockTasks.get(i));
+        }
+        this.dueClockTasks.clear();
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         try (BasicPluginContext context = createContext(task)) {
@@ -36,6 +36,7 @@
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -93,23 +94,29 @@ public void execute(Runnable command) {
 
     @Override
     public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final RejectableFutureTask<?> runnable = new RejectableFutureTask<>(command);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .submit(this.plugin);
 
+        // The future never completes if the task is dropped without running
+        ((ScheduledTask) task).setRejectionHandler(runnable::reject);
+
         return new SpongeTaskFuture<>(runnable, (ScheduledTask) task, this.scheduler);
     }
 
     @Override
     public <V> SpongeFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .submit(this.plugin);
 
+        // The future never completes if the task is dropped without running
+        ((ScheduledTask) task).setRejectionHandler(runnable::reject);
+
         return new SpongeTaskFuture<>(runnable, (ScheduledTask) task, this.scheduler);
     }
 
@@ -226,6 +233,25 @@ public V get(long timeout, TimeUnit unit) throws InterruptedException, Execution
         }
     }
 
+    /**
+     * An extension of the JREs FutureTask that can be completed exceptionally
+     * when its task is rejected by the executor.
+     */
+    private static class RejectableFutureTask<V> extends FutureTask<V> {
+
+        protected RejectableFutureTask(Runnable runnable) {
+            super(runnable, null);
+        }
+
+        protected RejectableFutureTask(Callable<V> callable) {
+            super(callable);
+        }
+
+        protected void reject(RejectedExecutionException e) {
+            setException(e);
+        }
+    }
+
     /**
      * An extension of the JREs FutureTask that can be repeatedly executed,
      * required for scheduling on an interval.
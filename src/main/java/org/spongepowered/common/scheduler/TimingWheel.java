@@ -0,0 +1,261 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hashed hierarchical timing wheel, storing entries by the slot they are
+ * due in. A slot is an abstract unit of time, ticks for the synchronous
+ * scheduler and fixed nanosecond buckets for the asynchronous one.
+ *
+ * <p>Only the entries in due slots are touched when the wheel advances,
+ * entries further away live on coarser levels and are cascaded down as
+ * their slot approaches. Scheduling and cancelling entries is O(1).</p>
+ *
+ * <p>This class is not thread safe, it is expected to only be accessed by
+ * the thread that advances it.</p>
+ *
+ * @param <T> The type of value held by the entries
+ */
+final class TimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+    // Deadlines further away than this are parked on the last level and re-placed when cascaded
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final Entry<T>[][] buckets;
+    private final int[] counts = new int[LEVELS];
+    // Reusable list head that due or cascading entries are moved to before being processed
+    private final Entry<T> detached = new Entry<>(null);
+    // The next slot which has not been processed yet
+    private long currentSlot;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel() {
+        this.buckets = new Entry[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                this.buckets[level][index] = new Entry<>(null);
+            }
+        }
+    }
+
+    /**
+     * Gets the next slot that will be processed by {@link #advance}.
+     *
+     * @return The current slot
+     */
+    long getCurrentSlot() {
+        return this.currentSlot;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Schedules the entry to be due in the given slot, moving it if it was
+     * already scheduled. Slots that already passed are treated as the
+     * current slot.
+     *
+     * @param entry The entry
+     * @param slot The slot the entry is due in
+     */
+    void schedule(Entry<T> entry, long slot) {
+        if (entry.level >= 0) {
+            this.unlink(entry);
+        }
+        entry.deadline = Math.max(slot, this.currentSlot);
+        this.link(entry);
+    }
+
+    /**
+     * Removes the entry from the wheel.
+     *
+     * @param entry The entry
+     * @return Whether the entry was scheduled
+     */
+    boolean cancel(Entry<T> entry) {
+        if (entry.level < 0) {
+            return false;
+        }
+        this.unlink(entry);
+        return true;
+    }
+
+    /**
+     * Gets the earliest slot in which the wheel has work to do, either
+     * entries that become due or entries that need to be cascaded to a
+     * finer level.
+     *
+     * @return The next slot with work, or {@link Long#MAX_VALUE} if the
+     *     wheel is empty
+     */
+    long getNextSlot() {
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        long next = Long.MAX_VALUE;
+        for (int level = 1; level < LEVELS; level++) {
+            if (this.counts[level] != 0) {
+                final long span = 1L << (level * WHEEL_BITS);
+                next = (this.currentSlot + span - 1) & -span;
+                break;
+            }
+        }
+        if (this.counts[0] != 0) {
+            for (long slot = this.currentSlot; slot < next && slot < this.currentSlot + WHEEL_SIZE; slot++) {
+                final Entry<T> head = this.buckets[0][(int) slot & WHEEL_MASK];
+                if (head.next != head) {
+                    return slot;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Advances the wheel up to and including the target slot, handing every
+     * entry that becomes due to the consumer. Entries are removed from the
+     * wheel before they are passed on, the consumer may schedule them again.
+     *
+     * @param targetSlot The last slot to process
+     * @param consumer The consumer of the due values
+     */
+    void advance(long targetSlot, Consumer<? super T> consumer) {
+        while (true) {
+            final long slot = this.getNextSlot();
+            if (slot > targetSlot) {
+                if (this.currentSlot <= targetSlot) {
+                    this.currentSlot = targetSlot + 1;
+                }
+                return;
+            }
+            this.currentSlot = slot;
+            // Bring down the entries of every level that wraps around at this slot
+            for (int level = 1; level < LEVELS; level++) {
+                final int shift = level * WHEEL_BITS;
+                if ((slot & ((1L << shift) - 1)) != 0) {
+                    break;
+                }
+                this.detach(this.buckets[level][(int) (slot >>> shift) & WHEEL_MASK]);
+                while (this.detached.next != this.detached) {
+                    final Entry<T> entry = this.detached.next;
+                    this.unlink(entry);
+                    this.link(entry);
+                }
+            }
+            this.currentSlot = slot + 1;
+            this.detach(this.buckets[0][(int) slot & WHEEL_MASK]);
+            while (this.detached.next != this.detached) {
+                final Entry<T> entry = this.detached.next;
+                this.unlink(entry);
+                consumer.accept(entry.value);
+            }
+        }
+    }
+
+    private void link(Entry<T> entry) {
+        long delta = entry.deadline - this.currentSlot;
+        long placement = entry.deadline;
+        if (delta >= MAX_SPAN) {
+            delta = MAX_SPAN - 1;
+            placement = this.currentSlot + delta;
+        }
+        final int level = delta < WHEEL_SIZE ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / WHEEL_BITS;
+        final Entry<T> head = this.buckets[level][(int) (placement >>> (level * WHEEL_BITS)) & WHEEL_MASK];
+        entry.level = level;
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+        this.counts[level]++;
+        this.size++;
+    }
+
+    private void unlink(Entry<T> entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = entry;
+        entry.next = entry;
+        this.counts[entry.level]--;
+        this.size--;
+        entry.level = -1;
+    }
+
+    /**
+     * Moves all the entries of the bucket to the detached list, without
+     * changing their level so they can still be unlinked normally.
+     */
+    private void detach(Entry<T> head) {
+        if (head.next == head) {
+            return;
+        }
+        this.detached.next = head.next;
+        this.detached.prev = head.prev;
+        head.next.prev = this.detached;
+        head.prev.next = this.detached;
+        head.next = head;
+        head.prev = head;
+    }
+
+    /**
+     * A node of the wheel, meant to be created once per value and reused
+     * every time the value is scheduled.
+     *
+     * @param <T> The type of value
+     */
+    static final class Entry<T> {
+
+        @Nullable final T value;
+        Entry<T> prev = this;
+        Entry<T> next = this;
+        long deadline;
+        int level = -1;
+
+        Entry(@Nullable T value) {
+            this.value = value;
+        }
+
+        boolean isScheduled() {
+            return this.level >= 0;
+        }
+
+        long getDeadline() {
+            return this.deadline;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free set of {@code short} keys backed by a bitmap.
+ *
+ * <p>The 65536 possible keys are split into 16 pages of 4096 bits which are
+ * only allocated once a key falls into them, so a sparsely populated set
+ * stays small. Every operation is a single compare-and-set on one word,
+ * which makes {@link #add(short)} a race-free "check and insert" that
+ * can be used to deduplicate work submitted from several threads.</p>
+ */
+public final class ConcurrentShortSet {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_COUNT = 1 << (Short.SIZE - PAGE_SHIFT);
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) / Long.SIZE;
+
+    private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(PAGE_COUNT);
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Adds the key to this set.
+     *
+     * @param key The key
+     * @return True if the key was not present before
+     */
+    public boolean add(short key) {
+        final int index = key & 0xFFFF;
+        final AtomicLongArray page = this.getOrCreatePage(index >>> PAGE_SHIFT);
+        final int word = (index & PAGE_MASK) >>> 6;
+        final long bit = 1L << index;
+        long current;
+        do {
+            current = page.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!page.compareAndSet(word, current, current | bit));
+        this.size.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes the key from this set.
+     *
+     * @param key The key
+     * @return True if the key was present
+     */
+    public boolean remove(short key) {
+        final int index = key & 0xFFFF;
+        final AtomicLongArray page = this.pages.get(index >>> PAGE_SHIFT);
+        if (page == null) {
+            return false;
+        }
+        final int word = (index & PAGE_MASK) >>> 6;
+        final long bit = 1L << index;
+        long current;
+        do {
+            current = page.get(word);
+            if ((current & bit) == 0) {
+                return false;
+            }
+        } while (!page.compareAndSet(word, current, current & ~bit));
+        this.size.decrementAndGet();
+        return true;
+    }
+
+    public boolean contains(short key) {
+        final int index = key & 0xFFFF;
+        final AtomicLongArray page = this.pages.get(index >>> PAGE_SHIFT);
+        return page != null && (page.get((index & PAGE_MASK) >>> 6) & (1L << index)) != 0;
+    }
+
+    public int size() {
+        return this.size.get();
+    }
+
+    public boolean isEmpty() {
+        return this.size.get() == 0;
+    }
+
+    private AtomicLongArray getOrCreatePage(int pageIndex) {
+        AtomicLongArray page = this.pages.get(pageIndex);
+        if (page == null) {
+            final AtomicLongArray created = new AtomicLongArray(WORDS_PER_PAGE);
+            if (this.pages.compareAndSet(pageIndex, null, created)) {
+                page = created;
+            } else {
+                page = this.pages.get(pageIndex);
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of {@code long} values, such as packed chunk
+ * positions, ordered by the {@code long} deadline each was added with.
+ *
+ * <p>Every value is held at most once, adding a value which is already
+ * queued moves it to the new deadline. It's still up to the user to
+ * validate polled values against their current state.</p>
+ */
+public final class LongDeadlineQueue {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] deadlines = new long[DEFAULT_CAPACITY];
+    private long[] values = new long[DEFAULT_CAPACITY];
+    // The heap index of every queued value
+    private final Long2IntMap indices = new Long2IntOpenHashMap();
+    private int size;
+
+    public LongDeadlineQueue() {
+        this.indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds the value with the given deadline, or moves it to the deadline
+     * if it is already queued.
+     *
+     * @param value The value
+     * @param deadline The deadline
+     */
+    public void add(long value, long deadline) {
+        final int existing = this.indices.get(value);
+        if (existing >= 0) {
+            final long previous = this.deadlines[existing];
+            if (deadline < previous) {
+                this.siftUp(existing, value, deadline);
+            } else if (deadline > previous) {
+                this.siftDown(existing, value, deadline);
+            }
+            return;
+        }
+        if (this.size == this.values.length) {
+            final int capacity = this.size << 1;
+            this.deadlines = Arrays.copyOf(this.deadlines, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+        this.siftUp(this.size++, value, deadline);
+    }
+
+    /**
+     * Gets whether the earliest deadline of this queue is at or before
+     * the given time.
+     *
+     * @param time The time
+     * @return True if a value is due
+     */
+    public boolean hasDue(long time) {
+        return this.size > 0 && this.deadlines[0] <= time;
+    }
+
+    /**
+     * Removes the value with the earliest deadline.
+     *
+     * @return The value
+     */
+    public long poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        final long result = this.values[0];
+        this.indices.remove(result);
+        final int last = --this.size;
+        if (last > 0) {
+            // Sift down the last entry from the root
+            this.siftDown(0, this.values[last], this.deadlines[last]);
+        }
+        return result;
+    }
+
+    public boolean contains(long value) {
+        return this.indices.containsKey(value);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+        this.indices.clear();
+    }
+
+    private void siftUp(int index, long value, long deadline) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (this.deadlines[parent] <= deadline) {
+                break;
+            }
+            this.set(index, this.values[parent], this.deadlines[parent]);
+            index = parent;
+        }
+        this.set(index, value, deadline);
+    }
+
+    private void siftDown(int index, long value, long deadline) {
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size && this.deadlines[child + 1] < this.deadlines[child]) {
+                child++;
+            }
+            if (deadline <= this.deadlines[child]) {
+                break;
+            }
+            this.set(index, this.values[child], this.deadlines[child]);
+            index = child;
+        }
+        this.set(index, value, deadline);
+    }
+
+    private void set(int index, long value, long deadline) {
+        this.values[index] = value;
+        this.deadlines[index] = deadline;
+        this.indices.put(value, index);
+    }
+}
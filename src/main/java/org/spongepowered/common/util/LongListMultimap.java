@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact multimap of {@code long} keys, such as packed block positions,
+ * to insertion ordered chains of values.
+ *
+ * <p>Only the head of each chain is kept in an open addressing map, the
+ * values themselves are stored in flat arrays where each entry links to
+ * the next entry of the same key. Removed entries are not reused until
+ * the map is {@link #clear() cleared}, which keeps the arrays for the
+ * next use.</p>
+ *
+ * @param <V> The type of value
+ */
+public final class LongListMultimap<V> {
+
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Long2IntOpenHashMap heads = new Long2IntOpenHashMap();
+    private Object[] values;
+    private int[] next;
+    // Only meaningful for the head entry of a chain
+    private int[] tails;
+    private int size;
+
+    public LongListMultimap() {
+        this.heads.defaultReturnValue(NONE);
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.next = new int[DEFAULT_CAPACITY];
+        this.tails = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Appends the value to the chain of the key.
+     *
+     * @param key The key
+     * @param value The value
+     * @return True if the key had no values yet
+     */
+    public boolean put(long key, V value) {
+        if (this.size == this.values.length) {
+            final int capacity = this.size << 1;
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+            this.tails = Arrays.copyOf(this.tails, capacity);
+        }
+        final int index = this.size++;
+        this.values[index] = value;
+        this.next[index] = NONE;
+        final int head = this.heads.putIfAbsent(key, index);
+        if (head == NONE) {
+            this.tails[index] = index;
+            return true;
+        }
+        this.next[this.tails[head]] = index;
+        this.tails[head] = index;
+        return false;
+    }
+
+    public boolean containsKey(long key) {
+        return this.heads.containsKey(key);
+    }
+
+    /**
+     * Gets the first value put for the key.
+     *
+     * @param key The key
+     * @return The first value, or null if the key has no values
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V getFirst(long key) {
+        final int head = this.heads.get(key);
+        return head == NONE ? null : (V) this.values[head];
+    }
+
+    /**
+     * Gets the values of the key, in the order they were put.
+     *
+     * @param key The key
+     * @param skip The amount of leading values to skip
+     * @return The values
+     */
+    @SuppressWarnings("unchecked")
+    public ImmutableList<V> get(long key, int skip) {
+        int index = this.heads.get(key);
+        for (int i = 0; i < skip && index != NONE; i++) {
+            index = this.next[index];
+        }
+        if (index == NONE) {
+            return ImmutableList.of();
+        }
+        final ImmutableList.Builder<V> builder = ImmutableList.builder();
+        for (; index != NONE; index = this.next[index]) {
+            builder.add((V) this.values[index]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Removes the first value of the key that matches the filter.
+     *
+     * @param key The key
+     * @param filter The filter
+     * @return True if a value was removed
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeFirst(long key, Predicate<? super V> filter) {
+        final int head = this.heads.get(key);
+        int previous = NONE;
+        for (int index = head; index != NONE; previous = index, index = this.next[index]) {
+            if (!filter.test((V) this.values[index])) {
+                continue;
+            }
+            final int following = this.next[index];
+            if (previous == NONE) {
+                if (following == NONE) {
+                    this.heads.remove(key);
+                } else {
+                    this.heads.put(key, following);
+                    this.tails[following] = this.tails[head];
+                }
+            } else {
+                this.next[previous] = following;
+                if (following == NONE) {
+                    this.tails[head] = previous;
+                }
+            }
+            this.values[index] = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all values of the key.
+     *
+     * @param key The key
+     * @return True if the key had any values
+     */
+    public boolean removeAll(long key) {
+        int index = this.heads.remove(key);
+        if (index == NONE) {
+            return false;
+        }
+        for (; index != NONE; index = this.next[index]) {
+            this.values[index] = null;
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return this.heads.isEmpty();
+    }
+
+    public void clear() {
+        this.heads.clear();
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the results of the expensive parts of explosions within a world for
+ * the duration of a tick, which avoids most of the work of chained explosions
+ * at nearly the same positions, such as in tnt cannons.
+ *
+ * <p>Three things are cached: the explosion resistance of every position a ray
+ * has passed through, the affected blocks of explosions with the same origin and
+ * size, and the block density between an explosion origin and the bounding box of
+ * an entity. Block changes in the world invalidate the cached results that may
+ * depend on them. Positions of unloaded chunks are read as air, so loading or
+ * unloading a chunk invalidates all results. Explosions that reuse the affected
+ * blocks of a previous explosion also reuse its random ray strengths.</p>
+ */
+public final class ExplosionCache {
+
+    // The amount of rays cast along each edge of the ray shell
+    private static final int RAYS = 16;
+    private static final float AIR = Float.NEGATIVE_INFINITY;
+
+    private final Long2FloatOpenHashMap resistances = new Long2FloatOpenHashMap();
+    private final Map<RayKey, long[]> affectedBlocks = new HashMap<>();
+    private final Map<DensityKey, Float> densities = new HashMap<>();
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+    private final LongSet positions = new LongOpenHashSet();
+
+    public ExplosionCache() {
+        this.resistances.defaultReturnValue(Float.NaN);
+    }
+
+    /**
+     * Gets whether the affected blocks of explosions caused by the exploder can
+     * be cached. Only explosions without an exploder or from primed tnt qualify,
+     * as other exploders may alter the resistance or the destruction of blocks
+     * depending on their own state.
+     *
+     * @param exploder The exploder
+     * @return True if the affected blocks can be cached
+     */
+    public static boolean canCacheAffectedBlocks(@Nullable Entity exploder) {
+        return exploder == null || exploder.getClass() == EntityTNTPrimed.class;
+    }
+
+    /**
+     * Casts the rays of an explosion, the same way as
+     * {@link Explosion#doExplosionA()} does, and adds the affected blocks to
+     * the given collection. The exploder must be {@link #canCacheAffectedBlocks
+     * cacheable}.
+     *
+     * @param world The world
+     * @param explosion The explosion
+     * @param exploder The exploder
+     * @param x The x coordinate of the origin
+     * @param y The y coordinate of the origin
+     * @param z The z coordinate of the origin
+     * @param size The size of the explosion
+     * @param affectedBlocks The collection to add the affected blocks to
+     */
+    public void getAffectedBlocks(World world, Explosion explosion, @Nullable Entity exploder, double x, double y, double z, float size,
+            Collection<BlockPos> affectedBlocks) {
+        final RayKey key = new RayKey(x, y, z, size);
+        long[] positions = this.affectedBlocks.get(key);
+        if (positions == null) {
+            positions = this.castRays(world, explosion, exploder, x, y, z, size);
+            this.affectedBlocks.put(key, positions);
+        }
+        for (long pos : positions) {
+            affectedBlocks.add(BlockPos.fromLong(pos));
+        }
+    }
+
+    private long[] castRays(World world, Explosion explosion, @Nullable Entity exploder, double x, double y, double z, float size) {
+        final BlockPos.MutableBlockPos pos = this.mutablePos;
+        this.positions.clear();
+        for (int j = 0; j < RAYS; ++j) {
+            for (int k = 0; k < RAYS; ++k) {
+                for (int l = 0; l < RAYS; ++l) {
+                    if (j != 0 && j != RAYS - 1 && k != 0 && k != RAYS - 1 && l != 0 && l != RAYS - 1) {
+                        continue;
+                    }
+                    double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+                    double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+                    double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
+                    final double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                    d0 = d0 / d3;
+                    d1 = d1 / d3;
+                    d2 = d2 / d3;
+                    float f = size * (0.7F + world.rand.nextFloat() * 0.6F);
+                    double d4 = x;
+                    double d6 = y;
+                    double d8 = z;
+
+                    for (; f > 0.0F; f -= 0.22500001F) {
+                        pos.setPos(d4, d6, d8);
+                        final long packedPos = pos.toLong();
+                        final float resistance = this.getResistance(world, explosion, exploder, pos, packedPos);
+                        if (resistance != AIR) {
+                            f -= (resistance + 0.3F) * 0.3F;
+                        }
+
+                        // Neither primed tnt nor the absence of an exploder prevent blocks from being destroyed
+                        if (f > 0.0F) {
+                            this.positions.add(packedPos);
+                        }
+
+                        d4 += d0 * 0.30000001192092896D;
+                        d6 += d1 * 0.30000001192092896D;
+                        d8 += d2 * 0.30000001192092896D;
+                    }
+                }
+            }
+        }
+        return this.positions.toLongArray();
+    }
+
+    private float getResistance(World world, Explosion explosion, @Nullable Entity exploder, BlockPos.MutableBlockPos pos, long packedPos) {
+        float resistance = this.resistances.get(packedPos);
+        if (Float.isNaN(resistance)) {
+            final IBlockState state = world.getBlockState(pos);
+            if (state.getMaterial() == Material.AIR) {
+                resistance = AIR;
+            } else if (exploder != null) {
+                resistance = exploder.getExplosionResistance(explosion, world, pos.toImmutable(), state);
+            } else {
+                resistance = state.getBlock().getExplosionResistance((Entity) null);
+            }
+            this.resistances.put(packedPos, resistance);
+        }
+        return resistance;
+    }
+
+    /**
+     * Gets the block density between the origin of an explosion and the
+     * bounding box, see {@link World#getBlockDensity(Vec3d, AxisAlignedBB)}.
+     *
+     * @param world The world
+     * @param origin The origin of the explosion
+     * @param bb The bounding box
+     * @return The block density
+     */
+    public float getBlockDensity(World world, Vec3d origin, AxisAlignedBB bb) {
+        final DensityKey key = new DensityKey(origin, bb);
+        Float density = this.densities.get(key);
+        if (density == null) {
+            density = world.getBlockDensity(origin, bb);
+            this.densities.put(key, density);
+        }
+        return density;
+    }
+
+    /**
+     * Invalidates the results that may depend on the block at the position.
+     *
+     * @param pos The position of the changed block
+     */
+    public void onBlockChange(BlockPos pos) {
+        if (!this.resistances.isEmpty()) {
+            this.resistances.remove(pos.toLong());
+        }
+        // Any ray may have passed the block, there is no point in tracking which ones did
+        if (!this.affectedBlocks.isEmpty()) {
+            this.affectedBlocks.clear();
+        }
+        if (!this.densities.isEmpty()) {
+            this.densities.clear();
+        }
+    }
+
+    public void clear() {
+        this.resistances.clear();
+        this.affectedBlocks.clear();
+        this.densities.clear();
+    }
+
+    private static final class RayKey {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final float size;
+
+        RayKey(double x, double y, double z, float size) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RayKey)) {
+                return false;
+            }
+            final RayKey other = (RayKey) o;
+            return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0 && Double.compare(this.z, other.z) == 0
+                    && Float.compare(this.size, other.size) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.x);
+            result = 31 * result + Double.hashCode(this.y);
+            result = 31 * result + Double.hashCode(this.z);
+            return 31 * result + Float.hashCode(this.size);
+        }
+    }
+
+    private static final class DensityKey {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final AxisAlignedBB bb;
+
+        DensityKey(Vec3d origin, AxisAlignedBB bb) {
+            this.x = origin.x;
+            this.y = origin.y;
+            this.z = origin.z;
+            this.bb = bb;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DensityKey)) {
+                return false;
+            }
+            final DensityKey other = (DensityKey) o;
+            return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0 && Double.compare(this.z, other.z) == 0
+                    && this.bb.equals(other.bb);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.x);
+            result = 31 * result + Double.hashCode(this.y);
+            result = 31 * result + Double.hashCode(this.z);
+            return 31 * result + this.bb.hashCode();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelWorldActivationCategory;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the entity and tile entity activation checks of the worlds in
+ * parallel, right before the worlds are ticked.
+ *
+ * <p>Only the activation checks are run off the server thread, they merely
+ * read the positions of players and entities and mark the entities and tile
+ * entities of their own world as active. Ticking the worlds stays on the
+ * server thread, as the phase tracker, the cause stack and the timings are
+ * shared by all worlds. The server thread waits until all checks are done,
+ * so no world is ticked while they run.</p>
+ *
+ * <p>Refreshing the activation state of an entity may add its type to the
+ * configs, so entities which need a refresh are kept active and refreshed on
+ * the server thread once all checks are done.</p>
+ */
+public final class ParallelWorldActivation {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(getNumThreads(),
+        new ThreadFactoryBuilder().setNameFormat("Sponge - Parallel World Activation Thread").setDaemon(true).build());
+
+    private static final List<Future<?>> futures = new ArrayList<>();
+
+    private static int getNumThreads() {
+        final int numThreads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelWorldActivationCategory().getNumThreads();
+        return numThreads > 0 ? numThreads : Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs the activation checks of all worlds which are allowed to be
+     * checked in parallel and waits for them to complete.
+     */
+    public static void activateWorlds() {
+        final ParallelWorldActivationCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations()
+            .getParallelWorldActivationCategory();
+        final List<String> worlds = category.getWorlds();
+        for (WorldServer world : WorldManager.getWorlds()) {
+            if (!worlds.isEmpty() && !worlds.contains(((org.spongepowered.api.world.World) world).getName())) {
+                continue;
+            }
+            final IMixinWorldServer mixinWorld = (IMixinWorldServer) world;
+            futures.add(EXECUTOR.submit(mixinWorld::runActivationChecks));
+        }
+
+        // Wait for every world, even if one failed, before any world is ticked
+        RuntimeException failure = null;
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = new RuntimeException("Failed to run the activation checks of a world", e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        futures.clear();
+        EntityActivationRange.refreshDeferredActivationStates();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private ParallelWorldActivation() {
+    }
+}
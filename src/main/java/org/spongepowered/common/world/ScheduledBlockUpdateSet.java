@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * The pending scheduled block updates of a world, which replaces the hash set
+ * that vanilla keeps next to the tick ordered tree set.
+ *
+ * <p>In addition to the membership checks vanilla uses this set for, entries
+ * are indexed by their packed block position and counted per chunk, so the
+ * updates at a position can be found without scanning all pending updates.</p>
+ */
+public final class ScheduledBlockUpdateSet extends HashSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = -2803218516547409361L;
+
+    private final Long2ObjectOpenHashMap<List<NextTickListEntry>> byPosition = new Long2ObjectOpenHashMap<>();
+    private final Long2IntOpenHashMap chunkCounts = new Long2IntOpenHashMap();
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (!super.add(entry)) {
+            return false;
+        }
+        List<NextTickListEntry> entries = this.byPosition.get(entry.position.toLong());
+        if (entries == null) {
+            entries = new ArrayList<>(1);
+            this.byPosition.put(entry.position.toLong(), entries);
+        }
+        entries.add(entry);
+        this.chunkCounts.addTo(chunkKey(entry.position), 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!super.remove(o)) {
+            return false;
+        }
+        this.unindex((NextTickListEntry) o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.byPosition.clear();
+        this.chunkCounts.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        final Iterator<NextTickListEntry> iterator = super.iterator();
+        return new Iterator<NextTickListEntry>() {
+
+            @Nullable private NextTickListEntry current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public NextTickListEntry next() {
+                return this.current = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                if (this.current != null) {
+                    ScheduledBlockUpdateSet.this.unindex(this.current);
+                    this.current = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets the pending updates at the given position, in the order they
+     * will be ticked.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The pending updates
+     */
+    public ImmutableList<NextTickListEntry> get(int x, int y, int z) {
+        final List<NextTickListEntry> entries = this.byPosition.get(new BlockPos(x, y, z).toLong());
+        if (entries == null) {
+            return ImmutableList.of();
+        }
+        if (entries.size() == 1) {
+            return ImmutableList.of(entries.get(0));
+        }
+        return Ordering.natural().immutableSortedCopy(entries);
+    }
+
+    /**
+     * Gets the entry held by this set that is equal to the given entry. Equal
+     * entries are not necessarily the same instance, but only the held one is
+     * present in the tick ordered tree set.
+     *
+     * @param entry The entry
+     * @return The held entry, or null if there is no equal entry
+     */
+    @Nullable
+    public NextTickListEntry getHeld(NextTickListEntry entry) {
+        final List<NextTickListEntry> entries = this.byPosition.get(entry.position.toLong());
+        if (entries != null) {
+            for (NextTickListEntry held : entries) {
+                if (held.equals(entry)) {
+                    return held;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the amount of pending updates within the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The amount of pending updates
+     */
+    public int getChunkCount(int chunkX, int chunkZ) {
+        return this.chunkCounts.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    private void unindex(NextTickListEntry entry) {
+        final long key = entry.position.toLong();
+        final List<NextTickListEntry> entries = this.byPosition.get(key);
+        if (entries != null) {
+            // The removed entry may only be equal to the held one
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                this.byPosition.remove(key);
+            }
+        }
+        final long chunkKey = chunkKey(entry.position);
+        if (this.chunkCounts.addTo(chunkKey, -1) <= 1) {
+            this.chunkCounts.remove(chunkKey);
+        }
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+}
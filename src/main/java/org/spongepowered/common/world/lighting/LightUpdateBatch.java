@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import java.util.Arrays;
+
+/**
+ * Collects the light updates queued for a single chunk so that they can be
+ * processed by one lighting task, instead of submitting a task per update.
+ *
+ * <p>Updates are stored as packed ints holding the light type in the high
+ * half and the position within the chunk in the low half. New updates are
+ * only ever added by the server thread, while a single lighting task drains
+ * them; the two swap buffers under the monitor of the batch.</p>
+ */
+public final class LightUpdateBatch {
+
+    private int[] pending = new int[16];
+    private int pendingCount;
+    private int[] drained = new int[16];
+    private int drainedCount;
+    private boolean scheduled;
+
+    public static int pack(int lightType, short position) {
+        return lightType << 16 | (position & 0xFFFF);
+    }
+
+    public static int getLightType(int update) {
+        return update >>> 16;
+    }
+
+    public static short getPosition(int update) {
+        return (short) update;
+    }
+
+    /**
+     * Adds an update to this batch.
+     *
+     * @param update The packed update
+     * @return True if no task is processing this batch yet, and the caller
+     *     has to schedule one
+     */
+    public synchronized boolean add(int update) {
+        if (this.pendingCount == this.pending.length) {
+            this.pending = Arrays.copyOf(this.pending, this.pendingCount * 2);
+        }
+        this.pending[this.pendingCount++] = update;
+        if (this.scheduled) {
+            return false;
+        }
+        this.scheduled = true;
+        return true;
+    }
+
+    /**
+     * Moves all pending updates into the drained buffer, which can then be
+     * read through {@link #getDrained()} by the processing task. If there
+     * are no pending updates, the batch is marked as idle again.
+     *
+     * @return The amount of drained updates, 0 if the batch went idle
+     */
+    public synchronized int drain() {
+        final int[] drained = this.pending;
+        this.drainedCount = this.pendingCount;
+        this.pending = this.drained;
+        this.pendingCount = 0;
+        this.drained = drained;
+        if (this.drainedCount == 0) {
+            this.scheduled = false;
+        }
+        return this.drainedCount;
+    }
+
+    public int[] getDrained() {
+        return this.drained;
+    }
+}
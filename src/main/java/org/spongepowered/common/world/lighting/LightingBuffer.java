@@ -0,0 +1,50 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Scratch state reused by the light propagation of a single thread, so the
+ * flood fill doesn't allocate positions or queues per step.
+ */
+public final class LightingBuffer {
+
+    private static final ThreadLocal<LightingBuffer> BUFFERS = ThreadLocal.withInitial(LightingBuffer::new);
+
+    public static LightingBuffer get() {
+        return BUFFERS.get();
+    }
+
+    // Same size as World#lightUpdateBlockList
+    public final int[] queue = new int[32768];
+    public final int[] heldLocks = new int[4];
+    public final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+    public final BlockPos.MutableBlockPos rawLightPos = new BlockPos.MutableBlockPos();
+
+    private LightingBuffer() {
+    }
+}
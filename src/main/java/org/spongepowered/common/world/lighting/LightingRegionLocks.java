@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks which partition asynchronous light propagation by region.
+ *
+ * <p>A region is a square of 2x2 chunks. Light updates only touch the 3x3
+ * chunks surrounding their origin, which always fall into exactly 2x2
+ * regions, so holding the locks of those regions gives a light update
+ * exclusive access to every chunk it may change. Updates in areas that are
+ * further apart map to different locks and are processed in parallel.</p>
+ *
+ * <p>Locks are always acquired in ascending stripe order, which rules out
+ * deadlocks between threads locking overlapping areas.</p>
+ */
+public final class LightingRegionLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public LightingRegionLocks(int concurrency) {
+        // Plenty of stripes per thread keeps unrelated regions from colliding
+        int size = Integer.highestOneBit(Math.max(1, concurrency) * 64 - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the regions surrounding the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param held An array of at least 4 elements, receives the held stripes
+     * @return The amount of held stripes, to pass to {@link #unlock(int[], int)}
+     */
+    public int lock(int chunkX, int chunkZ, int[] held) {
+        final int minRegionX = (chunkX - 1) >> 1;
+        final int minRegionZ = (chunkZ - 1) >> 1;
+        held[0] = this.stripe(minRegionX, minRegionZ);
+        held[1] = this.stripe(minRegionX + 1, minRegionZ);
+        held[2] = this.stripe(minRegionX, minRegionZ + 1);
+        held[3] = this.stripe(minRegionX + 1, minRegionZ + 1);
+        Arrays.sort(held, 0, 4);
+        int count = 0;
+        for (int i = 0; i < 4; i++) {
+            if (count == 0 || held[count - 1] != held[i]) {
+                held[count++] = held[i];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            this.locks[held[i]].lock();
+        }
+        return count;
+    }
+
+    public void unlock(int[] held, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            this.locks[held[i]].unlock();
+        }
+    }
+
+    private int stripe(int regionX, int regionZ) {
+        int hash = regionX * 0x9E3779B9 + regionZ;
+        hash ^= hash >>> 16;
+        return hash & this.mask;
+    }
+}
@@ -44,7 +44,9 @@
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.storage.RegionChunkIndex;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
@@ -75,6 +77,7 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private final World world;
     private final Predicate<Vector3i> doesChunkExistCheck;
+    @Nullable private final RegionChunkIndex regionChunkIndex;
     private final int chunkRadius;
     private final int chunkCount;
     private final float tickPercent;
@@ -117,9 +120,14 @@ private SpongeChunkPreGenerateTask(Object plugin,
         // This results in a extremely noticeable speed improvement.
         //
         // This also allows us to catch non Anvil file formats too.
-        if (world.getWorldStorage() instanceof IMixinChunkProviderServer) {
+        if (world.getWorldStorage() instanceof IMixinChunkProviderServer
+                && ((IMixinChunkProviderServer) world.getWorldStorage()).getChunkLoader() instanceof IMixinAnvilChunkLoader) {
+            // The region file headers are read ahead off the server thread
+            this.regionChunkIndex = new RegionChunkIndex(
+                    ((IMixinAnvilChunkLoader) ((IMixinChunkProviderServer) world.getWorldStorage()).getChunkLoader()).getWorldDir());
             this.doesChunkExistCheck = this::checkChunkExistsAnvil;
         } else {
+            this.regionChunkIndex = null;
             this.doesChunkExistCheck = v -> false;
         }
 
@@ -353,6 +361,11 @@ private boolean checkTickTime(long tickTime) {
     }
 
     private boolean checkChunkExistsAnvil(Vector3i v) {
+        if (this.regionChunkIndex.contains(v.getX(), v.getZ())) {
+            return true;
+        }
+        // Not in the region file when its header was read, but it may be waiting to be written.
+        // This is cheap for chunks that don't exist, unlike for chunks that do.
         CompletableFuture<Boolean> ret = ((IMixinChunkProviderServer) world.getWorldStorage()).doesChunkExistSync(v);
         try {
             return ret.get();
@@ -401,11 +414,18 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        ChunkPreGenerate preGenerate = post.getChunkPreGenerate();
+                        int processed = preGenerate.getTotalGeneratedChunks() + preGenerate.getTotalSkippedChunks();
+                        // Throughput over the whole run, as single steps are too short to be meaningful
+                        long totalMillis = Math.max(1, preGenerate.getTotalTime().toMillis());
+                        double chunksPerSecond = processed * 1000.0 / totalMillis;
+                        long remainingMillis = chunksPerSecond <= 0 ? 0
+                            : (long) (Math.max(0, preGenerate.getTargetTotalChunks() - processed) * 1000 / chunksPerSecond);
+                        logger.info("Generated {} chunks in {}, {}% complete ({} chunks/s, {} remaining)", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
-                            GenericMath.floor(
-                                100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks())
+                            GenericMath.floor(100 * processed / preGenerate.getTargetTotalChunks()),
+                            GenericMath.floor(chunksPerSecond),
+                            DurationFormatUtils.formatDurationWords(remainingMillis, true, true)
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunks of a world from its region files off the server thread.
+ *
+ * <p>Reading, decompressing and upgrading the chunk data happens on a shared
+ * I/O pool, the chunks are then created from their data on the server thread
+ * while the chunk provider ticks. Requests for a chunk that is already being
+ * read share that read, and loading the chunk synchronously in the meantime
+ * waits for it instead of reading the chunk again.</p>
+ *
+ * <p>Apart from the reads, all methods have to be called from the server
+ * thread.</p>
+ */
+public final class AsyncChunkLoader {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getNumThreads()),
+        new ThreadFactoryBuilder().setNameFormat("Sponge - Async Chunk Loader Thread").setDaemon(true).build());
+
+    private final IMixinAnvilChunkLoader chunkLoader;
+    private final Long2ObjectMap<Request> requests = new Long2ObjectOpenHashMap<>();
+    private final Queue<Request> readRequests = new ConcurrentLinkedQueue<>();
+
+    public AsyncChunkLoader(IMixinAnvilChunkLoader chunkLoader) {
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Requests the chunk at the given position to be read. The chunk should
+     * not be loaded already.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether to generate the chunk if it does not exist
+     * @return The future of the chunk, completed on the server thread
+     */
+    public CompletableFuture<Chunk> request(int x, int z, boolean generate) {
+        final long key = ChunkPos.asLong(x, z);
+        Request request = this.requests.get(key);
+        if (request == null) {
+            final Request newRequest = new Request(x, z);
+            newRequest.data = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return this.chunkLoader.readChunkData(x, z);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, EXECUTOR);
+            newRequest.data.whenComplete((data, throwable) -> this.readRequests.add(newRequest));
+            this.requests.put(key, newRequest);
+            request = newRequest;
+        }
+        request.generate |= generate;
+        return request.chunk;
+    }
+
+    /**
+     * Gets the pending read of the chunk at the given position, if any.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data future, or null if the chunk is not being read
+     */
+    @Nullable
+    public CompletableFuture<NBTTagCompound> getPendingRead(int x, int z) {
+        final Request request = this.requests.get(ChunkPos.asLong(x, z));
+        return request == null ? null : request.data;
+    }
+
+    /**
+     * Loads the chunks that have been read since the last call. The pending
+     * read of a chunk stays available while it is loaded.
+     *
+     * @param loader The function loading a read chunk
+     */
+    public void loadReadChunks(Loader loader) {
+        Request request;
+        while ((request = this.readRequests.poll()) != null) {
+            Chunk chunk = null;
+            try {
+                chunk = loader.load(request.x, request.z, request.generate);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to load chunk at ({}, {})", request.x, request.z, e);
+            } finally {
+                this.requests.remove(ChunkPos.asLong(request.x, request.z));
+            }
+            request.chunk.complete(chunk);
+        }
+    }
+
+    public int getPendingCount() {
+        return this.requests.size();
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+
+        @Nullable
+        Chunk load(int x, int z, boolean generate);
+    }
+
+    private static final class Request {
+
+        final int x;
+        final int z;
+        final CompletableFuture<Chunk> chunk = new CompletableFuture<>();
+        CompletableFuture<NBTTagCompound> data;
+        boolean generate;
+
+        Request(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+    }
+}
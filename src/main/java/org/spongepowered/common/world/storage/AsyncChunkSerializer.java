@@ -0,0 +1,186 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.NibbleArray;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncChunkSerializationCategory;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Serializes the chunk sections of the chunks saved by a chunk loader off the
+ * server thread, and only then queues the chunks to be written.
+ *
+ * <p>The server thread still writes the chunk tag, but only copies the block
+ * states of each section into a {@link ChunkSectionSnapshot}. The serializer
+ * encodes these into the section tags. Chunks of the same position are
+ * serialized in the order they were saved in, and loading a chunk waits for
+ * its pending serialization.</p>
+ */
+public final class AsyncChunkSerializer {
+
+    private static final ExecutorService EXECUTOR;
+    // Shared by all worlds, bounds the memory held by copied sections
+    private static final Semaphore IN_FLIGHT;
+
+    static {
+        final AsyncChunkSerializationCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations()
+            .getAsyncChunkSerializationCategory();
+        EXECUTOR = Executors.newFixedThreadPool(Math.max(1, category.getNumThreads()),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Async Chunk Serializer Thread").setDaemon(true).build());
+        IN_FLIGHT = new Semaphore(Math.max(1, category.getMaxInFlight()));
+    }
+
+    private final Map<ChunkPos, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final LongAdder serializedChunks = new LongAdder();
+    private final LongAdder snapshotTime = new LongAdder();
+    private final LongAdder serializeTime = new LongAdder();
+    private final LongAdder synchronousChunks = new LongAdder();
+
+    /**
+     * Reserves the serialization of a chunk if the in-flight budget allows
+     * it. A reserved chunk has to be {@link #submit submitted}, or
+     * {@link #cancel() cancelled} if saving it failed.
+     *
+     * @return True if reserved, otherwise the chunk has to be serialized synchronously
+     */
+    public boolean tryReserve() {
+        if (IN_FLIGHT.tryAcquire()) {
+            return true;
+        }
+        this.synchronousChunks.increment();
+        return false;
+    }
+
+    public void cancel() {
+        IN_FLIGHT.release();
+    }
+
+    /**
+     * Serializes the copied sections into the chunk tag, and then passes the
+     * tag on to be written.
+     *
+     * @param pos The chunk position
+     * @param compound The chunk tag
+     * @param sections The copied sections, in the order of the section tags
+     * @param snapshotNanos The time it took to write the chunk tag and copy the sections
+     * @param writer The consumer that queues the chunk tag to be written
+     */
+    public void submit(ChunkPos pos, NBTTagCompound compound, List<ChunkSectionSnapshot> sections, long snapshotNanos,
+            BiConsumer<ChunkPos, NBTTagCompound> writer) {
+        this.snapshotTime.add(snapshotNanos);
+        final Runnable task = () -> {
+            try {
+                final long start = System.nanoTime();
+                final NBTTagList sectionTags = compound.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL).getTagList(NbtDataUtil.CHUNK_DATA_SECTIONS,
+                    NbtDataUtil.TAG_COMPOUND);
+                for (int i = 0; i < sections.size(); i++) {
+                    final NibbleArray add = sections.get(i).encode();
+                    if (add != null) {
+                        sectionTags.getCompoundTagAt(i).setByteArray("Add", add.getData());
+                    }
+                }
+                this.serializeTime.add(System.nanoTime() - start);
+                this.serializedChunks.increment();
+                writer.accept(pos, compound);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to serialize chunk at {}", pos, e);
+            } finally {
+                IN_FLIGHT.release();
+            }
+        };
+        // Chain onto a pending serialization of the same chunk, so the chunk is written in order
+        final CompletableFuture<Void> future = this.pending.compute(pos, (key, previous) -> previous == null
+            ? CompletableFuture.runAsync(task, EXECUTOR)
+            : previous.thenRunAsync(task, EXECUTOR));
+        future.whenComplete((result, throwable) -> this.pending.remove(pos, future));
+    }
+
+    /**
+     * Waits for the pending serialization of the chunk, if any.
+     *
+     * @param pos The chunk position
+     */
+    public void await(ChunkPos pos) {
+        final CompletableFuture<Void> future = this.pending.get(pos);
+        if (future != null) {
+            future.join();
+        }
+    }
+
+    /**
+     * Waits for all pending serializations.
+     */
+    public void awaitAll() {
+        for (CompletableFuture<Void> future : this.pending.values()) {
+            future.join();
+        }
+    }
+
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    public long getSerializedCount() {
+        return this.serializedChunks.sum();
+    }
+
+    public long getSynchronousCount() {
+        return this.synchronousChunks.sum();
+    }
+
+    /**
+     * Gets the total time the server thread spent writing the tags of, and
+     * copying the sections of chunks that were serialized asynchronously.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getSnapshotTime() {
+        return this.snapshotTime.sum();
+    }
+
+    /**
+     * Gets the total time spent serializing the copied sections.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getSerializeTime() {
+        return this.serializeTime.sum();
+    }
+}
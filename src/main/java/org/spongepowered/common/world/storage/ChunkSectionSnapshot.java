@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.NibbleArray;
+import org.spongepowered.common.interfaces.IMixinBlockStateContainer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A copy of the block states of a {@link BlockStateContainer}, which can be
+ * encoded into the arrays of its chunk section tag off the server thread.
+ */
+public final class ChunkSectionSnapshot {
+
+    private static final int SECTION_SIZE = 4096;
+    // Containers with more bits use the global block state ids instead of a palette
+    private static final int MAX_PALETTE_BITS = 8;
+
+    private final long[] data;
+    private final int bits;
+    private final long mask;
+    @Nullable private final IBlockState[] palette;
+    private final byte[] blockIds;
+    private final NibbleArray metadata;
+
+    /**
+     * Copies the block states of the container, which are encoded into the
+     * given arrays by {@link #encode()} later on.
+     *
+     * @param container The container
+     * @param blockIds The block id array of the section tag
+     * @param metadata The metadata array of the section tag
+     */
+    public ChunkSectionSnapshot(BlockStateContainer container, byte[] blockIds, NibbleArray metadata) {
+        final IMixinBlockStateContainer mixinContainer = (IMixinBlockStateContainer) container;
+        this.data = mixinContainer.getStorage().getBackingLongArray().clone();
+        this.bits = mixinContainer.getBits();
+        this.mask = (1L << this.bits) - 1L;
+        if (this.bits <= MAX_PALETTE_BITS) {
+            // Palettes only ever grow by replacing them, so the entries up to now are all we need
+            final IBlockStatePalette containerPalette = mixinContainer.getPalette();
+            this.palette = new IBlockState[1 << this.bits];
+            for (int i = 0; i < this.palette.length; i++) {
+                this.palette[i] = containerPalette.getBlockState(i);
+            }
+        } else {
+            this.palette = null;
+        }
+        this.blockIds = blockIds;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Encodes the block states the same way as
+     * {@link BlockStateContainer#getDataForNBT(byte[], NibbleArray)}.
+     *
+     * @return The additional block id bits, if any block needs them
+     */
+    @Nullable
+    public NibbleArray encode() {
+        NibbleArray add = null;
+        for (int i = 0; i < SECTION_SIZE; i++) {
+            final int stateId = Block.BLOCK_STATE_IDS.get(this.getBlockState(i));
+            final int x = i & 15;
+            final int y = i >> 8 & 15;
+            final int z = i >> 4 & 15;
+            if ((stateId >> 12 & 15) != 0) {
+                if (add == null) {
+                    add = new NibbleArray();
+                }
+                add.set(x, y, z, stateId >> 12 & 15);
+            }
+            this.blockIds[i] = (byte) (stateId >> 4 & 255);
+            this.metadata.set(x, y, z, stateId & 15);
+        }
+        return add;
+    }
+
+    private IBlockState getBlockState(int index) {
+        final int value = this.getValue(index);
+        final IBlockState state = this.palette == null ? Block.BLOCK_STATE_IDS.getByValue(value) : this.palette[value];
+        return state == null ? Blocks.AIR.getDefaultState() : state;
+    }
+
+    // Same as BitArray#getAt
+    private int getValue(int index) {
+        final int bitIndex = index * this.bits;
+        final int startLong = bitIndex >> 6;
+        final int endLong = ((index + 1) * this.bits - 1) >> 6;
+        final int startOffset = bitIndex & 63;
+        if (startLong == endLong) {
+            return (int) (this.data[startLong] >>> startOffset & this.mask);
+        }
+        return (int) ((this.data[startLong] >>> startOffset | this.data[endLong] << (64 - startOffset)) & this.mask);
+    }
+}
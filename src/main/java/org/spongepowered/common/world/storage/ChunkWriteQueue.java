@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The positions of the chunks waiting to be written by a chunk loader,
+ * grouped by their region file.
+ *
+ * <p>A chunk is queued at most once, the data written for it is whatever
+ * was saved last. Regions are written in the order they were queued in, and
+ * the chunks of a region in the order of the region file header.</p>
+ */
+public final class ChunkWriteQueue {
+
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+
+    private final Long2ObjectLinkedOpenHashMap<BitSet> regions = new Long2ObjectLinkedOpenHashMap<>();
+    private int size;
+    private final LongAdder coalescedChunks = new LongAdder();
+    private final LongAdder writtenChunks = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+
+    /**
+     * Queues the chunk at the given position, unless it is already queued.
+     *
+     * @param pos The chunk position
+     * @return True if queued, false if already queued
+     */
+    public synchronized boolean add(ChunkPos pos) {
+        final long regionKey = ChunkPos.asLong(pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT);
+        BitSet chunks = this.regions.get(regionKey);
+        if (chunks == null) {
+            chunks = new BitSet((REGION_MASK + 1) * (REGION_MASK + 1));
+            this.regions.put(regionKey, chunks);
+        }
+        final int index = (pos.x & REGION_MASK) | (pos.z & REGION_MASK) << REGION_SHIFT;
+        if (chunks.get(index)) {
+            this.coalescedChunks.increment();
+            return false;
+        }
+        chunks.set(index);
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Removes the chunks of the region that was queued first.
+     *
+     * @param maxChunks The maximum amount of chunks to remove
+     * @return The removed chunk positions, empty if the queue is empty
+     */
+    public synchronized List<ChunkPos> pollRegion(int maxChunks) {
+        if (this.regions.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        final long regionKey = this.regions.firstLongKey();
+        final BitSet chunks = this.regions.get(regionKey);
+        final int regionX = (int) regionKey << REGION_SHIFT;
+        final int regionZ = (int) (regionKey >>> 32) << REGION_SHIFT;
+        final List<ChunkPos> polled = new ArrayList<>(Math.min(maxChunks, chunks.cardinality()));
+        for (int index = chunks.nextSetBit(0); index >= 0 && polled.size() < maxChunks; index = chunks.nextSetBit(index + 1)) {
+            chunks.clear(index);
+            polled.add(new ChunkPos(regionX | index & REGION_MASK, regionZ | index >> REGION_SHIFT));
+        }
+        if (chunks.isEmpty()) {
+            this.regions.remove(regionKey);
+        }
+        this.size -= polled.size();
+        return polled;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public void recordWrite(int bytes) {
+        this.writtenChunks.increment();
+        this.writtenBytes.add(bytes);
+    }
+
+    /**
+     * Gets the amount of saves that replaced the data of a chunk that was
+     * still waiting to be written.
+     *
+     * @return The amount of coalesced saves
+     */
+    public long getCoalescedCount() {
+        return this.coalescedChunks.sum();
+    }
+
+    public long getWrittenCount() {
+        return this.writtenChunks.sum();
+    }
+
+    /**
+     * Gets the total uncompressed size of the written chunks.
+     *
+     * @return The size in bytes
+     */
+    public long getWrittenBytes() {
+        return this.writtenBytes.sum();
+    }
+
+    /**
+     * Estimates the uncompressed size of the chunks waiting to be written,
+     * based on the average size of the written chunks.
+     *
+     * @return The estimated size in bytes
+     */
+    public long getPendingBytes() {
+        final long written = this.getWrittenCount();
+        return written == 0 ? 0 : this.size() * (this.getWrittenBytes() / written);
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only region file, mapped into memory.
+ *
+ * <p>Unlike {@link net.minecraft.world.chunk.storage.RegionFile}, this never
+ * writes to or creates the file and is not part of the region file cache, so
+ * it can be used to scan the region files of a world from any thread. Chunks
+ * that are written to the file while it is mapped may fail to be read.</p>
+ *
+ * <p>Closing the file closes its channel, the memory mapping itself is only
+ * released once the file is garbage collected.</p>
+ */
+public final class MappedRegionFile implements Closeable {
+
+    public static final int CHUNKS_PER_REGION = 1024;
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = CHUNKS_PER_REGION * 4;
+    private static final int VERSION_GZIP = 1;
+    private static final int VERSION_DEFLATE = 2;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int[] offsets = new int[CHUNKS_PER_REGION];
+
+    private MappedRegionFile(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.limit() >= HEADER_SIZE) {
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                this.offsets[i] = buffer.getInt(i * 4);
+            }
+        }
+    }
+
+    public static MappedRegionFile open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Region file " + path + " is too large to be mapped");
+            }
+            return new MappedRegionFile(path, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the chunks present in the given region file, only reading its
+     * header. The chunks are indexed like in {@link #nextChunk(int)}.
+     *
+     * @param path The region file
+     * @return The present chunks
+     * @throws IOException If the file could not be read
+     */
+    public static BitSet readPresentChunks(Path path) throws IOException {
+        final BitSet chunks = new BitSet(CHUNKS_PER_REGION);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return chunks;
+                }
+            }
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                if (header.getInt(i * 4) != 0) {
+                    chunks.set(i);
+                }
+            }
+            return chunks;
+        }
+    }
+
+    /**
+     * Counts the chunks of the given region file, only reading its header.
+     *
+     * @param path The region file
+     * @return The amount of chunks
+     * @throws IOException If the file could not be read
+     */
+    public static int countChunks(Path path) throws IOException {
+        return readPresentChunks(path).cardinality();
+    }
+
+    /**
+     * Gets the index of the next chunk present in this region, starting at
+     * the given index. The chunk x coordinate within the region is
+     * {@code index & 31}, the z coordinate {@code index >>> 5}.
+     *
+     * @param index The index to start at
+     * @return The index of the next chunk, or -1 if there are none
+     */
+    public int nextChunk(int index) {
+        for (; index < CHUNKS_PER_REGION; index++) {
+            if (this.offsets[index] != 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the chunk at the given index.
+     *
+     * @param index The chunk index
+     * @param inflater The inflater to decompress the chunk with, is reset before use
+     * @return The chunk data, or null if the chunk is not present
+     * @throws IOException If the chunk is corrupt
+     */
+    @Nullable
+    public NBTTagCompound readChunk(int index, Inflater inflater) throws IOException {
+        final int offset = this.offsets[index];
+        if (offset == 0) {
+            return null;
+        }
+        return readChunk(this.path, index, this.buffer.duplicate(), (long) (offset >>> 8) * SECTOR_SIZE, offset & 0xFF, inflater);
+    }
+
+    /**
+     * Reads the chunk at the given index of the given region file, only
+     * reading its header entry and the sectors of the chunk instead of
+     * mapping the whole file.
+     *
+     * @param path The region file
+     * @param index The chunk index
+     * @param inflater The inflater to decompress the chunk with, is reset before use
+     * @return The chunk data, or null if the chunk is not present
+     * @throws IOException If the file could not be read or the chunk is corrupt
+     */
+    @Nullable
+    public static NBTTagCompound readChunk(Path path, int index, Inflater inflater) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer entry = ByteBuffer.allocate(4);
+            readFully(channel, entry, index * 4L);
+            if (entry.hasRemaining()) {
+                // The header is truncated, like an empty region file
+                return null;
+            }
+            final int offset = entry.getInt(0);
+            if (offset == 0) {
+                return null;
+            }
+            final long start = (long) (offset >>> 8) * SECTOR_SIZE;
+            final int sectors = offset & 0xFF;
+            final ByteBuffer sectorData = ByteBuffer.allocate(sectors * SECTOR_SIZE);
+            readFully(channel, sectorData, start);
+            sectorData.flip();
+            return readChunk(path, index, sectorData, 0, sectors, inflater);
+        }
+    }
+
+    // Reads into the buffer until it is full or the end of the file is reached
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+
+    // Decodes the chunk starting at the given position of the buffer, moving its position and limit
+    @Nullable
+    private static NBTTagCompound readChunk(Path path, int index, ByteBuffer data, long start, int sectors, Inflater inflater)
+            throws IOException {
+        if (start + 5 > data.limit()) {
+            throw new IOException("Chunk " + index + " of region file " + path + " is outside of the file");
+        }
+        final int length = data.getInt((int) start);
+        if (length <= 1 || length > sectors * SECTOR_SIZE || start + 4 + length > data.limit()) {
+            throw new IOException("Chunk " + index + " of region file " + path + " has an invalid length of " + length);
+        }
+        final int version = data.get((int) start + 4);
+        data.limit((int) start + 4 + length);
+        data.position((int) start + 5);
+
+        final InputStream compressed = new ByteBufferInputStream(data);
+        final InputStream stream;
+        if (version == VERSION_DEFLATE) {
+            inflater.reset();
+            stream = new InflaterInputStream(compressed, inflater);
+        } else if (version == VERSION_GZIP) {
+            stream = new GZIPInputStream(compressed);
+        } else {
+            throw new IOException("Chunk " + index + " of region file " + path + " has an unknown version " + version);
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(stream))) {
+            return CompressedStreamTools.read(input);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, this.buffer.remaining());
+            this.buffer.get(bytes, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caches which chunks the region files of a world contain. Only the headers
+ * of the region files are read, off the server thread, and the headers of
+ * the surrounding regions are read ahead.
+ *
+ * <p>Chunks written after the header of their region was read are not
+ * known, this is meant for scans that check chunks they didn't write
+ * themselves, such as pre-generation. Has to be used from a single
+ * thread.</p>
+ */
+public final class RegionChunkIndex {
+
+    private final Path regionDir;
+    private final Long2ObjectMap<CompletableFuture<BitSet>> regions = new Long2ObjectOpenHashMap<>();
+
+    public RegionChunkIndex(Path worldDir) {
+        this.regionDir = worldDir.resolve("region");
+    }
+
+    public boolean contains(int chunkX, int chunkZ) {
+        final int regionX = chunkX >> 5;
+        final int regionZ = chunkZ >> 5;
+        final CompletableFuture<BitSet> region = this.getRegion(regionX, regionZ);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                this.getRegion(regionX + x, regionZ + z);
+            }
+        }
+        return region.join().get((chunkX & 31) | (chunkZ & 31) << 5);
+    }
+
+    private CompletableFuture<BitSet> getRegion(int regionX, int regionZ) {
+        final long key = ChunkPos.asLong(regionX, regionZ);
+        CompletableFuture<BitSet> region = this.regions.get(key);
+        if (region == null) {
+            final Path regionFile = this.regionDir.resolve("r." + regionX + "." + regionZ + ".mca");
+            region = SpongeImpl.getScheduler().submitAsyncTask(() -> Files.exists(regionFile)
+                    ? MappedRegionFile.readPresentChunks(regionFile)
+                    : new BitSet())
+                .exceptionally(throwable -> {
+                    SpongeImpl.getLogger().warn("Failed to read the header of region file {}", regionFile, throwable);
+                    return new BitSet();
+                });
+            this.regions.put(key, region);
+        }
+        return region;
+    }
+}
@@ -24,126 +24,147 @@
  */
 package org.spongepowered.common.world.storage;
 
-import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
+import com.google.common.collect.Lists;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over the chunks of the region files of a world. The chunks after
+ * the current one are read and decompressed ahead of time on the async
+ * executor, so multiple chunks are read in parallel while the stream is
+ * consumed.
+ */
 public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private static class RegionFileItr {
+    // The amount of chunks read ahead of the consumer
+    private static final int READ_AHEAD = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Path worldDir;
+    @Nullable private List<Path> regionFiles;
+    private int regionIndex;
+    @Nullable private MappedRegionFile region;
+    private int chunkIndex;
+    // The reads of the next chunks, in iteration order
+    private final Deque<CompletableFuture<DataContainer>> pendingReads = new ArrayDeque<>();
 
-        private final RegionFile file;
-        public int index;
+    public SpongeChunkDataStream(Path worldDir) {
+        this.worldDir = worldDir;
+    }
 
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
+    private List<Path> getRegionFiles() {
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
         }
+        return this.regionFiles;
+    }
 
-        public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
+    private int getNextIndex() {
+        while (true) {
+            if (this.region == null) {
+                if (this.regionIndex >= this.getRegionFiles().size()) {
+                    return -1;
+                }
+                try {
+                    this.region = MappedRegionFile.open(this.getRegionFiles().get(this.regionIndex++));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                this.chunkIndex = 0;
             }
-            if (index >= offsets.length) {
-                return -1;
+            final int next = this.region.nextChunk(this.chunkIndex);
+            if (next != -1) {
+                return next;
             }
-            return index;
+            this.closeRegion();
         }
-
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
-        }
-
     }
 
-    private final Set<Path> openedFiles = Sets.newHashSet();
-    private RegionFileItr regionFileItr;
-    private final Path worldDir;
-
-    public SpongeChunkDataStream(Path worldDir) {
-        this.worldDir = worldDir;
-    }
-
-    private boolean itrAvailable() {
-        if (this.regionFileItr != null) {
-            return true;
-        }
-        Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
-        for (Path file : files) {
-            if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
-                this.openedFiles.add(file);
-                return true;
+    private void closeRegion() {
+        if (this.region != null) {
+            // The mapping stays valid for reads that are still pending
+            try {
+                this.region.close();
+            } catch (IOException e) {
+                // Read-only, nothing was lost
             }
+            this.region = null;
         }
-        return false;
     }
 
-    private int getNextIndex() {
-        int next;
-        while (itrAvailable()) {
-            if ((next = this.regionFileItr.getNext()) == -1) {
-                this.regionFileItr = null;
-            } else {
-                return next;
+    private void readAhead() {
+        while (this.pendingReads.size() < READ_AHEAD) {
+            final int next = this.getNextIndex();
+            if (next == -1) {
+                return;
             }
+            this.chunkIndex = next + 1;
+            final MappedRegionFile region = this.region;
+            this.pendingReads.add(SpongeImpl.getScheduler().submitAsyncTask(() -> WorldStorageUtil.readChunkFromRegion(region, next)));
         }
-        return -1;
     }
 
     @Override
     public DataContainer next() {
-        int next = getNextIndex();
-        if (next == -1) {
+        this.readAhead();
+        final CompletableFuture<DataContainer> read = this.pendingReads.poll();
+        if (read == null) {
             throw new NoSuchElementException();
         }
-        this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
+        this.readAhead();
         try {
-            return WorldStorageUtil.readDataFromRegion(stream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            return read.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        return !this.pendingReads.isEmpty() || this.getNextIndex() != -1;
     }
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        // Count the chunks already being read and the remaining chunks of the
+        // current region, and then only read the headers of the remaining region files
+        int count = this.pendingReads.size();
+        if (this.region != null) {
+            for (int index = this.region.nextChunk(this.chunkIndex); index != -1; index = this.region.nextChunk(index + 1)) {
+                count++;
+            }
+        }
+        final List<Path> regionFiles = this.getRegionFiles();
+        for (int i = this.regionIndex; i < regionFiles.size(); i++) {
+            try {
+                count += MappedRegionFile.countChunks(regionFiles.get(i));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
     @Override
     public void reset() {
-        this.regionFileItr = null;
-        this.openedFiles.clear();
+        for (CompletableFuture<DataContainer> read : this.pendingReads) {
+            read.cancel(false);
+        }
+        this.pendingReads.clear();
+        this.closeRegion();
+        this.regionFiles = null;
+        this.regionIndex = 0;
     }
 
 }
@@ -27,8 +27,11 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataQuery;
@@ -38,29 +41,47 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+/**
+ * Stores the first and last joined dates of every player that ever joined.
+ *
+ * <p>The dates are kept in a single H2 store instead of a file per player, so
+ * nothing has to be read up front. Changed dates are buffered until the player
+ * is saved, and then written to the store off the server thread.</p>
+ */
 public final class SpongePlayerDataHandler {
 
     private static final String SPONGE_DATA = "sponge";
+    private static final String STORE_FILE = "players.mv.db";
+    private static final String PLAYERS_MAP = "players";
+    private static final String META_MAP = "meta";
+    private static final String LEGACY_IMPORTED = "legacy-imported";
+    // In megabytes, the store only has to keep the recently used pages in memory
+    private static final int STORE_CACHE_SIZE = 4;
+
     private boolean hasInitialized = false;
     private Path playerDir;
+    @Nullable private MVStore store;
+    // UUID -> { first joined, last joined }
+    @Nullable private MVMap<UUID, long[]> storedData;
+    @Nullable private ExecutorService writer;
 
+    // Player data that has changed since it was last saved
     private Map<UUID, SpongePlayerData> playerDataMap;
 
     public static void init() {
@@ -76,36 +97,31 @@ public static void init() {
             handlerInstance.playerDir = filePath;
             Files.createDirectories(handlerInstance.playerDir);
 
-            final List<Path> playerFiles = new ArrayList<>();
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(filePath, "*.{dat}")) {
-                for (Path entry : stream) {
-                    playerFiles.add(entry);
-                }
-            } catch (DirectoryIteratorException e) {
-                SpongeImpl.getLogger().error("Something happened when trying to gather all player files", e);
+            try {
+                handlerInstance.store = new MVStore.Builder()
+                        .fileName(filePath.resolve(STORE_FILE).toString())
+                        .cacheSize(STORE_CACHE_SIZE)
+                        .open();
+                handlerInstance.storedData = handlerInstance.store.openMap(PLAYERS_MAP);
+                handlerInstance.writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat("Sponge - Player Data Writer")
+                        .setDaemon(true)
+                        .build());
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to open the player data store [{}], player data will not be saved!",
+                        filePath.resolve(STORE_FILE), e);
+                handlerInstance.store = null;
+                handlerInstance.storedData = null;
             }
-            for (Path playerFile : playerFiles) {
-                if (Files.isReadable(playerFile)) {
-                    NBTTagCompound compound;
-
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = CompressedStreamTools.readCompressed(stream);
-                    } catch (Exception e) {
-                        throw new RuntimeException("Failed to decompress playerdata for playerfile " + playerFile, e);
-                    }
-
-                    // TODO Hard exception? Logger entry?
-                    if (compound == null) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
-                    SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
-                    handlerInstance.playerDataMap.put(data.uuid, data);
+
+            if (handlerInstance.store != null) {
+                final MVMap<String, Boolean> meta = handlerInstance.store.openMap(META_MAP);
+                if (!meta.containsKey(LEGACY_IMPORTED)) {
+                    importLegacyFiles(filePath, handlerInstance.storedData);
+                    meta.put(LEGACY_IMPORTED, true);
+                    handlerInstance.store.commit();
                 }
             }
-            playerFiles.clear();
-
         } catch (FileAlreadyExistsException e) {
             SpongeImpl.getLogger().error("Someone went and created a file for the desired path: {}", filePath);
         } catch (Exception e) {
@@ -115,61 +131,109 @@ public static void init() {
         handlerInstance.hasInitialized = true;
     }
 
+    /**
+     * Imports the player files that were written for every player before the
+     * store existed. This only happens once per world save.
+     */
+    private static void importLegacyFiles(Path filePath, MVMap<UUID, long[]> storedData) {
+        int imported = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(filePath, "*.{dat}")) {
+            for (Path playerFile : stream) {
+                if (!Files.isReadable(playerFile)) {
+                    continue;
+                }
+                final NBTTagCompound compound;
+                try (final InputStream inputStream = Files.newInputStream(playerFile)) {
+                    compound = CompressedStreamTools.readCompressed(inputStream);
+                } catch (Exception e) {
+                    SpongeImpl.getLogger().error("Failed to decompress playerdata for playerfile {}", playerFile, e);
+                    continue;
+                }
+
+                final DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+                final Optional<SpongePlayerData> data = container.getSerializable(DataQuery.of(), SpongePlayerData.class);
+                if (data.isPresent()) {
+                    storedData.putIfAbsent(data.get().uuid, new long[] {data.get().firstJoined, data.get().lastJoined});
+                    imported++;
+                }
+            }
+        } catch (DirectoryIteratorException | IOException e) {
+            SpongeImpl.getLogger().error("Something happened when trying to gather all player files", e);
+        }
+        if (imported > 0) {
+            SpongeImpl.getLogger().info("Imported the join data of {} players into the player data store.", imported);
+        }
+    }
+
     public static void savePlayer(UUID id) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
         @Nullable SpongePlayerData data = instance.playerDataMap.get(checkNotNull(id, "Player id cannot be null!"));
-        if (data != null) {
-            saveFile(id.toString(), createCompoundFor(data));
-        } else {
-            SpongeImpl.getLogger().error("Couldn't find a player data for the uuid: " + id.toString());
+        if (data == null) {
+            // Nothing changed since the player was last saved
+            return;
         }
+        final MVMap<UUID, long[]> storedData = instance.storedData;
+        final ExecutorService writer = instance.writer;
+        if (storedData == null || writer == null || writer.isShutdown()) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                storedData.put(id, new long[] {data.firstJoined, data.lastJoined});
+                // Only forget the data if it didn't change in the meantime
+                instance.playerDataMap.remove(id, data);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to save player data for [{}]!", id, e);
+            }
+        });
     }
 
-    private static NBTTagCompound createCompoundFor(SpongePlayerData data) {
-        return NbtTranslator.getInstance().translateData(data.toContainer());
-    }
-
-    private static void saveFile(String id, NBTTagCompound compound) {
-        checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        SpongePlayerDataHandler instance = Holder.INSTANCE;
-        try {
-            final Path newDatPath = instance.playerDir.resolve(id + ".dat.tmp");
-            if (Files.notExists(newDatPath)) {
-                // Ensure that where we want to put this at ALWAYS exists
-                Files.createDirectories(newDatPath.getParent());
-                Files.createFile(newDatPath);
+    /**
+     * Writes the remaining player data and closes the store.
+     */
+    public static void close() {
+        final SpongePlayerDataHandler instance = Holder.INSTANCE;
+        if (!instance.hasInitialized) {
+            return;
+        }
+        if (instance.writer != null) {
+            instance.writer.shutdown();
+            try {
+                instance.writer.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-
-            final Path finalDatPath = instance.playerDir.resolve(id + ".dat");
-
-            try (OutputStream stream = Files.newOutputStream(newDatPath)) {
-                CompressedStreamTools.writeCompressed(compound, stream);
-
-                try {
-                    Files.deleteIfExists(finalDatPath);
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Failed to delete the previous file [" + finalDatPath + "]!", ioe);
-                    return;
-                }
-
-                try {
-                    Files.move(newDatPath, finalDatPath,
-                            StandardCopyOption.REPLACE_EXISTING); // Replace is our last ditch effort to put this into place
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Could not rename file [{}] to [{}]!", newDatPath, finalDatPath);
-                    return;
-                }
-
-                try {
-                    Files.deleteIfExists(newDatPath);
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Could not delete file [{}]!", newDatPath);
+        }
+        if (instance.store != null && !instance.store.isClosed()) {
+            if (instance.storedData != null) {
+                for (SpongePlayerData data : instance.playerDataMap.values()) {
+                    instance.storedData.put(data.uuid, new long[] {data.firstJoined, data.lastJoined});
                 }
             }
-        } catch (Exception e) {
-            SpongeImpl.getLogger().error("Failed to save player data for [{}]!", id, e);
+            instance.store.close();
+        }
+        instance.store = null;
+        instance.storedData = null;
+        instance.writer = null;
+    }
+
+    @Nullable
+    private static SpongePlayerData getData(UUID player) {
+        final SpongePlayerDataHandler instance = Holder.INSTANCE;
+        final SpongePlayerData data = instance.playerDataMap.get(player);
+        if (data != null || instance.storedData == null) {
+            return data;
+        }
+        final long[] stored = instance.storedData.get(player);
+        if (stored == null) {
+            return null;
         }
+        final SpongePlayerData storedPlayerData = new SpongePlayerData();
+        storedPlayerData.uuid = player;
+        storedPlayerData.firstJoined = stored[0];
+        storedPlayerData.lastJoined = stored[1];
+        return storedPlayerData;
     }
 
     public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
@@ -178,11 +242,9 @@ public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
         checkNotNull(last, "Last joined date cannot be null!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
 
-        SpongePlayerData data = instance.playerDataMap.get(checkNotNull(playerId, "Player UUID cannot be null!"));
-        if (data == null) {
-            data = new SpongePlayerData();
-            data.uuid = playerId;
-        }
+        // Always a new instance, the data that is being saved must not change
+        final SpongePlayerData data = new SpongePlayerData();
+        data.uuid = checkNotNull(playerId, "Player UUID cannot be null!");
         data.firstJoined = join.toEpochMilli();
         data.lastJoined = last.toEpochMilli();
         instance.playerDataMap.put(playerId, data);
@@ -190,13 +252,13 @@ public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
 
     public static Optional<Instant> getFirstJoined(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
+        final SpongePlayerData data = getData(player);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.firstJoined));
     }
 
     public static Optional<Instant> getLastPlayed(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
+        final SpongePlayerData data = getData(player);
         return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.lastJoined));
     }
 
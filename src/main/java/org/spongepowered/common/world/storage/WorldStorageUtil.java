@@ -26,12 +26,9 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.IChunkLoader;
-import net.minecraft.world.chunk.storage.RegionFile;
-import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeImpl;
@@ -39,8 +36,6 @@
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 
-import java.io.DataInputStream;
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
@@ -50,9 +45,15 @@
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
 
 public class WorldStorageUtil {
 
+    // Region files are read by multiple async tasks at once
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         return doesChunkExist(world, chunkLoader, chunkCoords, SpongeImpl.getScheduler()::submitAsyncTask);
     }
@@ -78,18 +79,28 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         if (!(chunkLoader instanceof IMixinAnvilChunkLoader) || !SpongeChunkLayout.instance.isValidChunk(x, y, z)) {
             return CompletableFuture.completedFuture(Optional.empty());
         }
-        File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
+        Path regionFile = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().resolve("region")
+                .resolve("r." + (x >> 5) + "." + (z >> 5) + ".mca");
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
-            return Optional.ofNullable(readDataFromRegion(stream));
+            if (!Files.exists(regionFile)) {
+                return Optional.empty();
+            }
+            // A single chunk only needs its header entry and sectors, mapping the whole file is left to streams
+            final NBTTagCompound data = MappedRegionFile.readChunk(regionFile, (x & 31) | (z & 31) << 5, INFLATER.get());
+            return Optional.ofNullable(readDataFromRegion(data));
         });
     }
 
-    public static DataContainer readDataFromRegion(DataInputStream stream) throws IOException {
-        if (stream == null) {
+    @Nullable
+    public static DataContainer readChunkFromRegion(MappedRegionFile region, int index) throws IOException {
+        return readDataFromRegion(region.readChunk(index, INFLATER.get()));
+    }
+
+    @Nullable
+    public static DataContainer readDataFromRegion(@Nullable NBTTagCompound data) {
+        if (data == null) {
             return null;
         }
-        NBTTagCompound data = CompressedStreamTools.read(stream);
 
         // Checks are based on AnvilChunkLoader#checkedReadChunkFromNBT
 
@@ -111,20 +122,4 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
         }
     }
 
-    // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
-    // file name instead of x,z
-    public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
-            return regionFile;
-        }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
-    }
-
 }
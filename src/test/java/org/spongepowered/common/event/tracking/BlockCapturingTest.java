@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.phase.tick.BlockEventTickContext;
+import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
+import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class BlockCapturingTest {
+
+    @Before
+    public void init() throws Exception {
+        this.resetStatics();
+        // Only listeners of ChangeBlockEvent.Pre are registered
+        ShouldFire.CHANGE_BLOCK_EVENT = true;
+        ShouldFire.CHANGE_BLOCK_EVENT_PRE = true;
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        this.resetStatics();
+    }
+
+    private void resetStatics() throws IllegalAccessException {
+        for (Field field: ShouldFire.class.getDeclaredFields()) {
+            if (Modifier.isPublic(field.getModifiers()) && Modifier.isStatic(field.getModifiers())) {
+                field.set(null, false);
+            }
+        }
+    }
+
+    @Test
+    public void testBlockEventWithoutUserIsNotCaptured() {
+        final BlockEventTickContext context = TickPhase.Tick.BLOCK_EVENT.createPhaseContext();
+        Assert.assertFalse(PhaseTracker.capturesBlockChanges(TickPhase.Tick.BLOCK_EVENT, context));
+    }
+
+    @Test
+    public void testBlockEventWithOwnerIsCaptured() {
+        final BlockEventTickContext context = TickPhase.Tick.BLOCK_EVENT.createPhaseContext();
+        context.owner(Mockito.mock(User.class));
+        Assert.assertTrue(PhaseTracker.capturesBlockChanges(TickPhase.Tick.BLOCK_EVENT, context));
+    }
+
+    @Test
+    public void testBlockEventWithNotifierIsCaptured() {
+        final BlockEventTickContext context = TickPhase.Tick.BLOCK_EVENT.createPhaseContext();
+        context.notifier(Mockito.mock(User.class));
+        Assert.assertTrue(PhaseTracker.capturesBlockChanges(TickPhase.Tick.BLOCK_EVENT, context));
+    }
+
+    @Test
+    public void testEntityTickIsCaptured() {
+        final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext();
+        Assert.assertTrue(PhaseTracker.capturesBlockChanges(TickPhase.Tick.ENTITY, context));
+    }
+}
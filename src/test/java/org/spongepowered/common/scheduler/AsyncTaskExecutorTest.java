@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncTaskExecutorTest {
+
+    private ManualPool pool;
+    private PluginContainer internal;
+    private PluginContainer plugin;
+    private AsyncTaskExecutor executor;
+
+    @Before
+    public void init() {
+        this.pool = new ManualPool();
+        this.internal = Mockito.mock(PluginContainer.class);
+        this.plugin = Mockito.mock(PluginContainer.class);
+        this.executor = new AsyncTaskExecutor(this.pool, this.internal, 2, 3, 16);
+    }
+
+    @Test
+    public void testConcurrentTasksAreLimited() {
+        for (int i = 0; i < 3; i++) {
+            this.executor.execute(this.plugin, () -> { });
+        }
+        assertEquals(2, this.pool.tasks.size());
+        final PluginTaskMetrics metrics = this.executor.getMetrics(this.plugin);
+        assertEquals(2, metrics.getActiveTasks());
+        assertEquals(3, metrics.getQueuedTasks());
+    }
+
+    @Test
+    public void testSlotIsHandedToWaitingTask() {
+        final List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final int task = i;
+            this.executor.execute(this.plugin, () -> ran.add(task));
+        }
+        this.pool.runNext();
+        // The finished task passes its slot on, instead of releasing it
+        assertEquals(2, this.pool.tasks.size());
+        assertEquals(2, this.executor.getMetrics(this.plugin).getActiveTasks());
+        this.pool.runAll();
+        assertEquals(3, ran.size());
+        final PluginTaskMetrics metrics = this.executor.getMetrics(this.plugin);
+        assertEquals(0, metrics.getActiveTasks());
+        assertEquals(0, metrics.getQueuedTasks());
+        assertEquals(3, metrics.getCompletedTasks());
+    }
+
+    @Test
+    public void testFullQueueRejectsTasks() {
+        for (int i = 0; i < 3; i++) {
+            this.executor.execute(this.plugin, () -> { });
+        }
+        try {
+            this.executor.execute(this.plugin, () -> fail("Rejected task ran"));
+            fail("Task was not rejected");
+        } catch (RejectedExecutionException ignored) {
+        }
+        assertEquals(1, this.executor.getMetrics(this.plugin).getRejectedTasks());
+        this.pool.runAll();
+        assertEquals(3, this.executor.getMetrics(this.plugin).getCompletedTasks());
+        // Room was made, so the queue accepts tasks again
+        this.executor.execute(this.plugin, () -> { });
+        assertEquals(1, this.pool.tasks.size());
+    }
+
+    @Test
+    public void testRejectedRepeatingTaskIsRetried() {
+        for (int i = 0; i < 3; i++) {
+            this.executor.execute(this.plugin, () -> { });
+        }
+        final ScheduledTask task = this.createTask(50);
+        task.setRejectionHandler(e -> fail("Repeating task was dropped"));
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        assertFalse(this.executor.execute(task, () -> fail("Rejected task ran")));
+        // Left switching, the task would never be due again
+        assertEquals(ScheduledTask.ScheduledTaskState.RUNNING, task.getState());
+        this.pool.runAll();
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        assertTrue(this.executor.execute(task, () -> { }));
+    }
+
+    @Test
+    public void testRejectedOneShotTaskIsCancelled() {
+        for (int i = 0; i < 3; i++) {
+            this.executor.execute(this.plugin, () -> { });
+        }
+        final ScheduledTask task = this.createTask(0);
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        assertFalse(this.executor.execute(task, () -> fail("Rejected task ran")));
+        assertEquals(ScheduledTask.ScheduledTaskState.CANCELED, task.getState());
+        // The rejection is passed on once a handler is set
+        final List<RejectedExecutionException> rejections = new ArrayList<>();
+        task.setRejectionHandler(rejections::add);
+        assertEquals(1, rejections.size());
+    }
+
+    private ScheduledTask createTask(long interval) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS, task -> { }, "test", 0, false, interval, false, this.plugin);
+    }
+
+    @Test
+    public void testPluginsHaveSeparateQuotas() {
+        final PluginContainer other = Mockito.mock(PluginContainer.class);
+        for (int i = 0; i < 3; i++) {
+            this.executor.execute(this.plugin, () -> { });
+        }
+        this.executor.execute(other, () -> { });
+        assertEquals(3, this.pool.tasks.size());
+    }
+
+    @Test
+    public void testInternalTasksAreNotLimited() {
+        for (int i = 0; i < 10; i++) {
+            this.executor.execute(this.internal, () -> { });
+        }
+        assertEquals(10, this.pool.tasks.size());
+        assertEquals(0, this.executor.getMetrics(this.internal).getRejectedTasks());
+    }
+
+    private static final class ManualPool extends AbstractExecutorService {
+
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        void runNext() {
+            this.tasks.remove().run();
+        }
+
+        void runAll() {
+            while (!this.tasks.isEmpty()) {
+                this.runNext();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            this.tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>(this.tasks);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
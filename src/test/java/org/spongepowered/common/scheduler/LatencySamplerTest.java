@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public class LatencySamplerTest {
+
+    @Test
+    public void testNoSamples() {
+        assertArrayEquals(new long[] {0, 0, 0}, new LatencySampler(8).getPercentiles());
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencySampler sampler = new LatencySampler(100);
+        // Recorded out of order, the percentiles are computed over the sorted samples
+        for (int i = 100; i > 0; i--) {
+            sampler.record(i);
+        }
+        assertArrayEquals(new long[] {50, 95, 99}, sampler.getPercentiles());
+    }
+
+    @Test
+    public void testSingleSample() {
+        final LatencySampler sampler = new LatencySampler(100);
+        sampler.record(7);
+        assertArrayEquals(new long[] {7, 7, 7}, sampler.getPercentiles());
+    }
+
+    @Test
+    public void testOnlyRecentSamplesAreKept() {
+        final LatencySampler sampler = new LatencySampler(10);
+        for (int i = 1; i <= 20; i++) {
+            sampler.record(i * 1000);
+        }
+        // Only 11000 to 20000 remain
+        assertArrayEquals(new long[] {15000, 20000, 20000}, sampler.getPercentiles());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testEntriesFireInTheirSlot() {
+        final TimingWheel<Long> wheel = new TimingWheel<>();
+        final long[] deadlines = {0, 1, 63, 64, 65, 4095, 4096, 100000, 1L << 40};
+        for (long deadline : deadlines) {
+            wheel.schedule(new TimingWheel.Entry<>(deadline), deadline);
+        }
+        final List<Long> fired = new ArrayList<>();
+        wheel.advance(1L << 41, value -> {
+            assertEquals((long) value, wheel.getCurrentSlot() - 1);
+            fired.add(value);
+        });
+        assertEquals(deadlines.length, fired.size());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testNothingFiresEarly() {
+        final TimingWheel<String> wheel = new TimingWheel<>();
+        wheel.schedule(new TimingWheel.Entry<>("late"), 5000);
+        wheel.advance(4999, value -> {
+            throw new AssertionError("Fired early");
+        });
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testCancel() {
+        final TimingWheel<String> wheel = new TimingWheel<>();
+        final TimingWheel.Entry<String> entry = new TimingWheel.Entry<>("cancelled");
+        wheel.schedule(entry, 10);
+        assertTrue(wheel.cancel(entry));
+        assertFalse(wheel.cancel(entry));
+        assertFalse(entry.isScheduled());
+        wheel.advance(20, value -> {
+            throw new AssertionError("Cancelled entry fired");
+        });
+        assertEquals(Long.MAX_VALUE, wheel.getNextSlot());
+    }
+
+    @Test
+    public void testRescheduleFromConsumer() {
+        final TimingWheel<String> wheel = new TimingWheel<>();
+        final TimingWheel.Entry<String> entry = new TimingWheel.Entry<>("repeating");
+        final int[] runs = {0};
+        wheel.schedule(entry, 0);
+        wheel.advance(100, value -> {
+            runs[0]++;
+            wheel.schedule(entry, wheel.getCurrentSlot() + 9);
+        });
+        assertEquals(11, runs[0]);
+        assertTrue(entry.isScheduled());
+    }
+}
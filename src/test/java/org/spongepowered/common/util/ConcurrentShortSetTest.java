@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentShortSetTest {
+
+    @Test
+    public void testAddRemove() {
+        final ConcurrentShortSet set = new ConcurrentShortSet();
+        assertTrue(set.add((short) 0));
+        assertTrue(set.add((short) -1));
+        assertTrue(set.add((short) 4097));
+        assertFalse(set.add((short) 4097));
+        assertEquals(3, set.size());
+
+        assertTrue(set.contains((short) -1));
+        assertFalse(set.contains((short) 4096));
+
+        assertTrue(set.remove((short) 0));
+        assertFalse(set.remove((short) 0));
+        assertFalse(set.remove((short) 1234));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testConcurrentAddIsExclusive() throws InterruptedException {
+        final ConcurrentShortSet set = new ConcurrentShortSet();
+        final int[] added = new int[4];
+        final Thread[] threads = new Thread[added.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int id = i;
+            threads[i] = new Thread(() -> {
+                for (int key = Short.MIN_VALUE; key <= Short.MAX_VALUE; key++) {
+                    if (set.add((short) key)) {
+                        added[id]++;
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        int total = 0;
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            total += added[i];
+        }
+        assertEquals(1 << 16, total);
+        assertEquals(1 << 16, set.size());
+    }
+}
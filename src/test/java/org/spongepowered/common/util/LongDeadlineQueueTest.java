@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LongDeadlineQueueTest {
+
+    @Test
+    public void testPollsInDeadlineOrder() {
+        final LongDeadlineQueue queue = new LongDeadlineQueue();
+        final Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            final long deadline = random.nextInt(500);
+            // Encode the deadline in the value to check the ordering
+            queue.add(deadline * 10000 + i, deadline);
+        }
+        assertEquals(1000, queue.size());
+        long previous = Long.MIN_VALUE;
+        while (!queue.isEmpty()) {
+            final long deadline = queue.poll() / 10000;
+            assertTrue(deadline >= previous);
+            previous = deadline;
+        }
+    }
+
+    @Test
+    public void testHasDue() {
+        final LongDeadlineQueue queue = new LongDeadlineQueue();
+        assertFalse(queue.hasDue(Long.MAX_VALUE));
+        queue.add(1L, 100L);
+        queue.add(2L, 50L);
+        assertFalse(queue.hasDue(49L));
+        assertTrue(queue.hasDue(50L));
+        assertEquals(2L, queue.poll());
+        assertFalse(queue.hasDue(99L));
+        assertEquals(1L, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testAddingQueuedValueMovesIt() {
+        final LongDeadlineQueue queue = new LongDeadlineQueue();
+        for (long value = 0; value < 10; value++) {
+            queue.add(value, 100L + value);
+        }
+        // Re-queued values don't leave stale entries behind
+        queue.add(5L, 10L);
+        queue.add(0L, 500L);
+        queue.add(5L, 20L);
+        assertEquals(10, queue.size());
+        assertTrue(queue.hasDue(20L));
+        assertEquals(5L, queue.poll());
+        assertFalse(queue.contains(5L));
+        for (long value = 1; value < 10; value++) {
+            if (value != 5) {
+                assertEquals(value, queue.poll());
+            }
+        }
+        assertEquals(0L, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+}
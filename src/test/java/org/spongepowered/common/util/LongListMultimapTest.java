@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+public class LongListMultimapTest {
+
+    @Test
+    public void testChainsKeepInsertionOrder() {
+        final LongListMultimap<String> map = new LongListMultimap<>();
+        assertTrue(map.put(1L, "a"));
+        assertTrue(map.put(-5L, "x"));
+        assertFalse(map.put(1L, "b"));
+        assertFalse(map.put(1L, "c"));
+
+        assertEquals("a", map.getFirst(1L));
+        assertEquals(ImmutableList.of("a", "b", "c"), map.get(1L, 0));
+        assertEquals(ImmutableList.of("b", "c"), map.get(1L, 1));
+        assertEquals(ImmutableList.of(), map.get(-5L, 1));
+        assertNull(map.getFirst(2L));
+    }
+
+    @Test
+    public void testRemove() {
+        final LongListMultimap<String> map = new LongListMultimap<>();
+        map.put(1L, "a");
+        map.put(1L, "b");
+        map.put(1L, "c");
+        map.put(2L, "d");
+
+        assertTrue(map.removeFirst(1L, "c"::equals));
+        assertTrue(map.put(3L, "e"));
+        assertFalse(map.put(1L, "f"));
+        assertTrue(map.removeFirst(1L, "a"::equals));
+        assertFalse(map.removeFirst(1L, "a"::equals));
+        assertEquals(ImmutableList.of("b", "f"), map.get(1L, 0));
+
+        assertTrue(map.removeFirst(2L, "d"::equals));
+        assertFalse(map.containsKey(2L));
+        assertTrue(map.removeAll(1L));
+        assertFalse(map.removeAll(1L));
+        assertFalse(map.isEmpty());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        for (long key = 0; key < 100_000; key++) {
+            assertTrue(map.put(key, "v"));
+        }
+        assertEquals("v", map.getFirst(99_999L));
+    }
+}
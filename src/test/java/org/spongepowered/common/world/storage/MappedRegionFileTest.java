@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+public class MappedRegionFileTest {
+
+    private static final int SECTOR_SIZE = 4096;
+
+    private Path file;
+
+    @Before
+    public void createFile() throws IOException {
+        this.file = Files.createTempFile("region", ".mca");
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    private static NBTTagCompound createChunk(int index) {
+        final NBTTagCompound level = new NBTTagCompound();
+        level.setInteger("xPos", index & 31);
+        level.setInteger("zPos", index >>> 5);
+        final NBTTagCompound chunk = new NBTTagCompound();
+        chunk.setTag("Level", level);
+        return chunk;
+    }
+
+    private static byte[] deflate(NBTTagCompound compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            CompressedStreamTools.write(compound, output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] gzip(NBTTagCompound compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(compound, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * A region file fixture, every chunk is written to its own sector after
+     * the two header sectors of offsets and timestamps.
+     */
+    private static final class RegionWriter {
+
+        private final ByteBuffer buffer;
+        private int nextSector = 2;
+
+        RegionWriter(int sectors) {
+            this.buffer = ByteBuffer.allocate(sectors * SECTOR_SIZE);
+        }
+
+        RegionWriter chunk(int index, int version, byte[] data) {
+            return this.chunk(index, version, data.length + 1, data);
+        }
+
+        RegionWriter chunk(int index, int version, int length, byte[] data) {
+            final int sector = this.nextSector++;
+            this.buffer.putInt(index * 4, sector << 8 | 1);
+            this.buffer.putInt(sector * SECTOR_SIZE, length);
+            this.buffer.put(sector * SECTOR_SIZE + 4, (byte) version);
+            for (int i = 0; i < data.length; i++) {
+                this.buffer.put(sector * SECTOR_SIZE + 5 + i, data[i]);
+            }
+            return this;
+        }
+
+        RegionWriter offset(int index, int offset) {
+            this.buffer.putInt(index * 4, offset);
+            return this;
+        }
+
+        void write(Path path) throws IOException {
+            Files.write(path, this.buffer.array());
+        }
+    }
+
+    @Test
+    public void testPresentChunks() throws IOException {
+        new RegionWriter(5)
+                .chunk(0, 2, deflate(createChunk(0)))
+                .chunk(37, 1, gzip(createChunk(37)))
+                .chunk(1023, 2, deflate(createChunk(1023)))
+                .write(this.file);
+
+        final BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(37);
+        expected.set(1023);
+        Assert.assertEquals(expected, MappedRegionFile.readPresentChunks(this.file));
+        Assert.assertEquals(3, MappedRegionFile.countChunks(this.file));
+
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            Assert.assertEquals(0, region.nextChunk(0));
+            Assert.assertEquals(37, region.nextChunk(1));
+            Assert.assertEquals(37, region.nextChunk(37));
+            Assert.assertEquals(1023, region.nextChunk(38));
+            Assert.assertEquals(-1, region.nextChunk(1024));
+        }
+    }
+
+    @Test
+    public void testTruncatedHeader() throws IOException {
+        Files.write(this.file, new byte[100]);
+
+        Assert.assertEquals(0, MappedRegionFile.countChunks(this.file));
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            Assert.assertEquals(-1, region.nextChunk(0));
+        }
+    }
+
+    @Test
+    public void testReadChunks() throws IOException {
+        new RegionWriter(4)
+                .chunk(5, 2, deflate(createChunk(5)))
+                .chunk(70, 1, gzip(createChunk(70)))
+                .write(this.file);
+
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            final Inflater inflater = new Inflater();
+            Assert.assertEquals(createChunk(5), region.readChunk(5, inflater));
+            Assert.assertEquals(createChunk(70), region.readChunk(70, inflater));
+            // The inflater is reset before being reused
+            Assert.assertEquals(createChunk(5), region.readChunk(5, inflater));
+            Assert.assertNull(region.readChunk(6, inflater));
+            inflater.end();
+        }
+    }
+
+    @Test
+    public void testReadSingleChunks() throws IOException {
+        new RegionWriter(4)
+                .chunk(5, 2, deflate(createChunk(5)))
+                .chunk(70, 1, gzip(createChunk(70)))
+                .write(this.file);
+
+        final Inflater inflater = new Inflater();
+        Assert.assertEquals(createChunk(5), MappedRegionFile.readChunk(this.file, 5, inflater));
+        Assert.assertEquals(createChunk(70), MappedRegionFile.readChunk(this.file, 70, inflater));
+        Assert.assertNull(MappedRegionFile.readChunk(this.file, 6, inflater));
+        inflater.end();
+    }
+
+    @Test
+    public void testReadSingleChunkOfTruncatedHeader() throws IOException {
+        Files.write(this.file, new byte[100]);
+
+        Assert.assertNull(MappedRegionFile.readChunk(this.file, 1000, new Inflater()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testSingleChunkOutsideOfFile() throws IOException {
+        new RegionWriter(3)
+                .offset(0, 10 << 8 | 1)
+                .write(this.file);
+
+        MappedRegionFile.readChunk(this.file, 0, new Inflater());
+    }
+
+    @Test(expected = IOException.class)
+    public void testChunkOutsideOfFile() throws IOException {
+        new RegionWriter(3)
+                .offset(0, 10 << 8 | 1)
+                .write(this.file);
+
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            region.readChunk(0, new Inflater());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidLength() throws IOException {
+        // The length exceeds the single sector of the chunk
+        new RegionWriter(4)
+                .chunk(0, 2, SECTOR_SIZE + 1, deflate(createChunk(0)))
+                .write(this.file);
+
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            region.readChunk(0, new Inflater());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownVersion() throws IOException {
+        new RegionWriter(3)
+                .chunk(0, 3, deflate(createChunk(0)))
+                .write(this.file);
+
+        try (MappedRegionFile region = MappedRegionFile.open(this.file)) {
+            region.readChunk(0, new Inflater());
+        }
+    }
+
+}